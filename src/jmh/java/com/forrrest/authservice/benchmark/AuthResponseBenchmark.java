@@ -0,0 +1,111 @@
+package com.forrrest.authservice.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.ResponseCookie;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.forrrest.authservice.config.RefreshTokenStoreProperties;
+import com.forrrest.authservice.config.TokenDenylistProperties;
+import com.forrrest.authservice.config.TokenIssuerProperties;
+import com.forrrest.authservice.dto.response.AuthResponse;
+import com.forrrest.authservice.dto.response.ProfileResponse;
+import com.forrrest.authservice.entity.User;
+import com.forrrest.authservice.security.TokenDenylist;
+import com.forrrest.authservice.service.RefreshTokenStore;
+import com.forrrest.authservice.service.TokenService;
+import com.forrrest.authservice.token.JwtTokenIssuer;
+import com.forrrest.authservice.token.SigningKeyRing;
+import com.forrrest.authservice.utils.cookies.CookieUtils;
+import com.forrrest.common.security.config.TokenProperties;
+import com.forrrest.common.security.token.JwtTokenProvider;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 로그인/프로필 선택 응답을 만드는 비용: 토큰 4개 발급, refresh 쿠키, AuthResponse JSON 직렬화.
+ * refresh token 저장은 write-behind 큐에 넣는 것까지만 포함한다 (DB 반영은 별도 스레드).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AuthResponseBenchmark {
+
+    // true: JwtTokenIssuer, false: forrrest-common JwtTokenProvider
+    @Param({"true", "false"})
+    public boolean issuerEnabled;
+
+    private TokenService tokenService;
+    private User user;
+    private ProfileResponse profile;
+    private AuthResponse authResponse;
+    private ObjectWriter writer;
+
+    @Setup
+    public void setUp() {
+        TokenProperties tokenProperties = BenchmarkFixtures.tokenProperties();
+        TokenIssuerProperties issuerProperties = new TokenIssuerProperties();
+        issuerProperties.setEnabled(issuerEnabled);
+
+        // 같은 email 로만 저장하므로 배치 크기에 닿지 않아 repository/jdbc/scheduler 는 호출되지 않는다
+        RefreshTokenStore refreshTokenStore = new RefreshTokenStore(null, null, new ThreadPoolTaskScheduler(),
+            new RefreshTokenStoreProperties(), new SimpleMeterRegistry());
+
+        // 발급 시 폐기 기록만 조회한다 (기록이 없어 rev 클레임은 붙지 않고, 로그 파일도 쓰지 않는다)
+        TokenDenylistProperties denylistProperties = new TokenDenylistProperties();
+        denylistProperties.setLogPath("");
+        TokenDenylist tokenDenylist = new TokenDenylist(new ThreadPoolTaskScheduler(), denylistProperties,
+            new SimpleMeterRegistry());
+
+        // 검증/교체 정책 의존성은 발급 경로에서 쓰지 않는다
+        tokenService = new TokenService(
+            new JwtTokenProvider(tokenProperties),
+            tokenProperties,
+            refreshTokenStore,
+            null,
+            new JwtTokenIssuer(tokenProperties, SigningKeyRing.of(BenchmarkFixtures.tokenKeyProperties())),
+            issuerProperties,
+            null,
+            tokenDenylist,
+            new SimpleMeterRegistry());
+
+        user = User.builder()
+            .email("bench@test.com")
+            .password("password")
+            .username("bench")
+            .build();
+        LocalDateTime now = LocalDateTime.now();
+        profile = new ProfileResponse(1L, "Profile", true, now, now);
+        authResponse = tokenService.createAuthResponse(user, profile);
+        // 스프링 부트 기본 ObjectMapper 설정 (JavaTimeModule 등)
+        writer = Jackson2ObjectMapperBuilder.json().build().writerFor(AuthResponse.class);
+    }
+
+    @Benchmark
+    public AuthResponse createAuthResponse() {
+        return tokenService.createAuthResponse(user, profile);
+    }
+
+    @Benchmark
+    public ResponseCookie refreshTokenCookie() {
+        return CookieUtils.createRefreshTokenCookie(authResponse.getUserToken().getRefreshToken(),
+            authResponse.getUserToken().getExpiresIn());
+    }
+
+    @Benchmark
+    public byte[] serializeAuthResponse() throws JsonProcessingException {
+        return writer.writeValueAsBytes(authResponse);
+    }
+}
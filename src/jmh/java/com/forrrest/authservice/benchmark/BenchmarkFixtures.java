@@ -0,0 +1,48 @@
+package com.forrrest.authservice.benchmark;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import javax.crypto.SecretKey;
+
+import com.forrrest.authservice.config.TokenKeyProperties;
+import com.forrrest.common.security.config.TokenProperties;
+import com.forrrest.common.security.token.TokenType;
+
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+
+// application.yml 의 개발용 기본 키와 같은 설정
+final class BenchmarkFixtures {
+
+    static final String KEY_ID = "key_v1";
+    static final String SECRET = "c2VjcmV0a2V5Zm9yZGV2ZW52aXJvbm1lbnRzZWNyZXRrZXlmb3JkZXZlbnZpcm9ubWVudA==";
+
+    private BenchmarkFixtures() {
+    }
+
+    static SecretKey secretKey() {
+        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+    }
+
+    static TokenProperties tokenProperties() {
+        Map<TokenType, Long> validity = new EnumMap<>(TokenType.class);
+        validity.put(TokenType.USER_ACCESS, 3600000L);
+        validity.put(TokenType.USER_REFRESH, 604800000L);
+        validity.put(TokenType.PROFILE_ACCESS, 3600000L);
+        validity.put(TokenType.PROFILE_REFRESH, 604800000L);
+        TokenProperties properties = new TokenProperties();
+        properties.setValidity(validity);
+        return properties;
+    }
+
+    static TokenKeyProperties tokenKeyProperties() {
+        TokenKeyProperties.Key key = new TokenKeyProperties.Key();
+        key.setId(KEY_ID);
+        key.setSecret(SECRET);
+        TokenKeyProperties properties = new TokenKeyProperties();
+        properties.setKeys(Map.of(KEY_ID, key));
+        properties.setCurrentKeyId(KEY_ID);
+        return properties;
+    }
+}
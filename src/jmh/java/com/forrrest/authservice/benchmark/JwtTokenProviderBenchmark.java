@@ -0,0 +1,49 @@
+package com.forrrest.authservice.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.forrrest.common.security.token.JwtTokenProvider;
+import com.forrrest.common.security.token.TokenType;
+
+/**
+ * forrrest-common 의 JwtTokenProvider 발급/검증 비용.
+ * auth.token-issuer.enabled=false 일 때의 발급 경로이고, 다른 서비스는 매 요청 validateToken 을 호출한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private static final Map<String, Object> CLAIMS = Map.of(
+        "username", "bench",
+        "roles", List.of("USER"));
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(BenchmarkFixtures.tokenProperties());
+        accessToken = jwtTokenProvider.createToken("bench@test.com", TokenType.USER_ACCESS, CLAIMS);
+    }
+
+    @Benchmark
+    public String createToken() {
+        return jwtTokenProvider.createToken("bench@test.com", TokenType.USER_ACCESS, CLAIMS);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenProvider.validateToken(accessToken);
+    }
+}
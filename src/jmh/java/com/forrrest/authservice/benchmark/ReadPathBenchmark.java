@@ -0,0 +1,135 @@
+package com.forrrest.authservice.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.forrrest.authservice.dto.response.ProfileResponse;
+import com.forrrest.authservice.dto.response.UserResponse;
+import com.forrrest.authservice.entity.Profile;
+import com.forrrest.authservice.entity.User;
+import com.forrrest.authservice.entity.id.IdBlockAllocator;
+import com.forrrest.authservice.service.IdGeneratorTableMigration;
+
+/**
+ * GET /users/me, GET /profiles 조회 경로 비교 (H2 인메모리, 읽기 전용 세션).
+ * entity 는 엔티티를 영속성 컨텍스트에 올린 뒤 from() 으로 복사하고,
+ * projection 은 UserRepository/ProfileRepository 의 생성자 표현식 쿼리로 응답 객체를 바로 만든다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReadPathBenchmark {
+
+    private static final String EMAIL = "bench@test.com";
+    private static final int PROFILE_COUNT = 5;
+    private static final String URL = "jdbc:h2:mem:read-path;DB_CLOSE_DELAY=-1;MODE=MySQL";
+
+    private SessionFactory sessionFactory;
+
+    @Setup
+    public void setUp() {
+        Configuration configuration = new Configuration()
+            .addAnnotatedClass(User.class)
+            .addAnnotatedClass(Profile.class)
+            .setProperty(AvailableSettings.JAKARTA_JDBC_URL, URL)
+            .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop");
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(URL);
+        new IdGeneratorTableMigration(new JdbcTemplate(dataSource)).migrate();
+        configuration.getProperties().put(IdBlockAllocator.SETTING, new IdBlockAllocator(dataSource, 100));
+        sessionFactory = configuration.buildSessionFactory();
+
+        sessionFactory.inTransaction(session -> {
+            User user = User.builder()
+                .email(EMAIL)
+                .password("password")
+                .username("bench")
+                .build();
+            session.persist(user);
+            for (int i = 0; i < PROFILE_COUNT; i++) {
+                session.persist(Profile.builder()
+                    .user(user)
+                    .name("Profile " + i)
+                    .isDefault(i == 0)
+                    .build());
+            }
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public UserResponse userEntity() {
+        return sessionFactory.fromTransaction(session -> {
+            readOnly(session);
+            return UserResponse.from(session.createSelectionQuery(
+                    "select u from User u where u.email = :email", User.class)
+                .setParameter("email", EMAIL)
+                .getSingleResult());
+        });
+    }
+
+    @Benchmark
+    public UserResponse userProjection() {
+        return sessionFactory.fromTransaction(session -> {
+            readOnly(session);
+            return session.createSelectionQuery("""
+                    select new com.forrrest.authservice.dto.response.UserResponse(u.id, u.email, u.username, u.createdAt, u.updatedAt)
+                    from User u where u.email = :email
+                    """, UserResponse.class)
+                .setParameter("email", EMAIL)
+                .getSingleResult();
+        });
+    }
+
+    @Benchmark
+    public List<ProfileResponse> profilesEntity() {
+        return sessionFactory.fromTransaction(session -> {
+            readOnly(session);
+            return session.createSelectionQuery(
+                    "select p from Profile p join p.user u where u.email = :email", Profile.class)
+                .setParameter("email", EMAIL)
+                .getResultList()
+                .stream()
+                .map(ProfileResponse::from)
+                .toList();
+        });
+    }
+
+    @Benchmark
+    public List<ProfileResponse> profilesProjection() {
+        return sessionFactory.fromTransaction(session -> {
+            readOnly(session);
+            return session.createSelectionQuery("""
+                    select new com.forrrest.authservice.dto.response.ProfileResponse(p.id, p.name, p.isDefault, p.createdAt, p.updatedAt)
+                    from Profile p join p.user u where u.email = :email
+                    """, ProfileResponse.class)
+                .setParameter("email", EMAIL)
+                .getResultList();
+        });
+    }
+
+    // @Transactional(readOnly = true) 와 같은 세션 설정
+    private static void readOnly(Session session) {
+        session.setDefaultReadOnly(true);
+        session.setHibernateFlushMode(FlushMode.MANUAL);
+    }
+}
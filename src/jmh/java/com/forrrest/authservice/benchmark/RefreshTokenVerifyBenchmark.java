@@ -0,0 +1,68 @@
+package com.forrrest.authservice.benchmark;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKey;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.forrrest.authservice.token.JwtTokenVerifier;
+import com.forrrest.authservice.token.SigningKeyRing;
+import com.forrrest.authservice.token.VerifiedToken;
+import com.forrrest.common.security.token.TokenType;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+
+/**
+ * refresh 경로의 토큰 검증 비용 비교.
+ * twoPass 는 기존 validateToken + getAuthentication 처럼 같은 토큰을 두 번 파싱/서명 검증한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RefreshTokenVerifyBenchmark {
+
+    private JwtTokenVerifier verifier;
+    private JwtParser parser;
+    private String refreshToken;
+
+    @Setup
+    public void setUp() {
+        SecretKey key = BenchmarkFixtures.secretKey();
+        verifier = new JwtTokenVerifier(SigningKeyRing.of(BenchmarkFixtures.tokenKeyProperties()));
+        parser = Jwts.parser().verifyWith(key).build();
+        refreshToken = Jwts.builder()
+            .header().keyId(BenchmarkFixtures.KEY_ID).and()
+            .subject("bench@test.com")
+            .claim(JwtTokenVerifier.TYPE_CLAIM, TokenType.USER_REFRESH.name())
+            .claim("username", "bench")
+            .claim("roles", List.of("USER"))
+            .issuedAt(new Date())
+            .expiration(new Date(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(7)))
+            .signWith(key)
+            .compact();
+    }
+
+    @Benchmark
+    public void twoPass(Blackhole blackhole) {
+        blackhole.consume(parser.parseSignedClaims(refreshToken));
+        Claims claims = parser.parseSignedClaims(refreshToken).getPayload();
+        blackhole.consume(claims.getSubject());
+    }
+
+    @Benchmark
+    public VerifiedToken singlePass() {
+        return verifier.verify(refreshToken, TokenType.USER_REFRESH);
+    }
+}
@@ -0,0 +1,66 @@
+package com.forrrest.authservice.benchmark;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKey;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.forrrest.authservice.token.JwtTokenIssuer;
+import com.forrrest.authservice.token.JwtTokenVerifier;
+import com.forrrest.authservice.token.SigningKeyRing;
+import com.forrrest.common.security.token.TokenType;
+
+import io.jsonwebtoken.Jwts;
+
+/**
+ * 토큰 1개 발급 비용 비교. ./gradlew jmh 의 gc profiler 로 B/op 를 함께 본다.
+ * jjwt 는 JwtTokenProvider.createToken 과 같은 방식(빌더 + signWith)으로 발급한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TokenIssueBenchmark {
+
+    private static final Map<String, Object> CLAIMS = Map.of(
+        "username", "bench",
+        "roles", List.of("USER"));
+
+    private SecretKey key;
+    private JwtTokenIssuer issuer;
+
+    @Setup
+    public void setUp() {
+        key = BenchmarkFixtures.secretKey();
+        issuer = new JwtTokenIssuer(BenchmarkFixtures.tokenProperties(),
+            SigningKeyRing.of(BenchmarkFixtures.tokenKeyProperties()));
+    }
+
+    @Benchmark
+    public String jjwtBuilder() {
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+            .header().keyId(BenchmarkFixtures.KEY_ID).and()
+            .subject("bench@test.com")
+            .claim(JwtTokenVerifier.TYPE_CLAIM, TokenType.USER_ACCESS.name())
+            .claims(CLAIMS)
+            .issuedAt(new Date(now))
+            .expiration(new Date(now + 3600000L))
+            .signWith(key)
+            .compact();
+    }
+
+    @Benchmark
+    public String issuer() {
+        return issuer.issue("bench@test.com", TokenType.USER_ACCESS, CLAIMS);
+    }
+}
@@ -0,0 +1,230 @@
+package com.forrrest.authservice.benchmark;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.hibernate.FlushMode;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.forrrest.authservice.config.ProfileCacheProperties;
+import com.forrrest.authservice.dto.response.ProfileResponse;
+import com.forrrest.authservice.entity.Profile;
+import com.forrrest.authservice.entity.User;
+import com.forrrest.authservice.entity.id.IdBlockAllocator;
+import com.forrrest.authservice.service.IdGeneratorTableMigration;
+import com.forrrest.authservice.service.ProfileCache;
+import com.forrrest.authservice.utils.digest.TokenDigest;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * 요청 처리 스레드 모델 비교: Tomcat 기본값(플랫폼 스레드 200개) 과 spring.threads.virtual.enabled=true.
+ * 요청마다 GET /profiles 경로(ProfileCache + 프로젝션 쿼리, Hikari 커넥션)와 토큰 다이제스트를 실행하고,
+ * 네트워크 왕복은 parkNanos 로 흉내 낸다. 한 번의 호출은 동시 요청 concurrency 개가 모두 끝나는 시간이다.
+ * 평균은 커넥션 대기 꼬리를 가리므로 SampleTime 으로 호출 시간의 p50/p99 를 보고, 요청 하나의 지연 백분위는
+ * 마지막 측정 반복 기준으로 teardown 에서 출력한다.
+ * 실행 중 jdk.VirtualThreadPinned 이벤트를 세어 teardown 에서 호출 위치별로 출력한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class VirtualThreadBenchmark {
+
+    private static final int USER_COUNT = 500;
+    private static final int PROFILES_PER_USER = 3;
+    private static final String PROFILES_QUERY = """
+        select new com.forrrest.authservice.dto.response.ProfileResponse(p.id, p.name, p.isDefault, p.createdAt, p.updatedAt)
+        from Profile p join p.user u where u.email = :email
+        """;
+
+    @Param({"platform", "virtual"})
+    public String threads;
+
+    @Param({"1000"})
+    public int concurrency;
+
+    @Param({"20"})
+    public int poolSize;
+
+    // 커넥션을 쥔 채 기다리는 DB 왕복, 커넥션 밖의 클라이언트 I/O
+    @Param({"1"})
+    public long dbLatencyMillis;
+
+    @Param({"2"})
+    public long ioLatencyMillis;
+
+    private HikariDataSource dataSource;
+    private SessionFactory sessionFactory;
+    private ProfileCache profileCache;
+    private ExecutorService executor;
+    private RecordingStream pinnedEvents;
+    private final LongAdder pinnedCount = new LongAdder();
+    private final Map<String, LongAdder> pinnedSites = new ConcurrentHashMap<>();
+    private Timer requestTimer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        HikariConfig hikariConfig = new HikariConfig();
+        hikariConfig.setJdbcUrl("jdbc:h2:mem:virtual-threads;DB_CLOSE_DELAY=-1;MODE=MySQL");
+        hikariConfig.setMaximumPoolSize(poolSize);
+        hikariConfig.setConnectionTimeout(30_000);
+        dataSource = new HikariDataSource(hikariConfig);
+
+        Configuration configuration = new Configuration()
+            .addAnnotatedClass(User.class)
+            .addAnnotatedClass(Profile.class)
+            .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+            // 스프링 부트와 같은 컬럼 이름 (ix_profile_user_id_is_default 인덱스 생성)
+            .setPhysicalNamingStrategy(new CamelCaseToUnderscoresNamingStrategy());
+        configuration.getProperties().put(AvailableSettings.JAKARTA_NON_JTA_DATASOURCE, dataSource);
+        new IdGeneratorTableMigration(new JdbcTemplate(dataSource)).migrate();
+        configuration.getProperties().put(IdBlockAllocator.SETTING, new IdBlockAllocator(dataSource, 100));
+        sessionFactory = configuration.buildSessionFactory();
+
+        sessionFactory.inTransaction(session -> {
+            for (int i = 0; i < USER_COUNT; i++) {
+                User user = User.builder()
+                    .email(email(i))
+                    .password("password")
+                    .username("bench" + i)
+                    .build();
+                session.persist(user);
+                for (int j = 0; j < PROFILES_PER_USER; j++) {
+                    session.persist(Profile.builder()
+                        .user(user)
+                        .name("Profile " + j)
+                        .isDefault(j == 0)
+                        .build());
+                }
+            }
+        });
+
+        // 일부 요청이 캐시 미스로 DB 를 조회하도록 사용자 수보다 작게
+        ProfileCacheProperties cacheProperties = new ProfileCacheProperties();
+        cacheProperties.setMaximumSize(USER_COUNT / 5);
+        cacheProperties.setTtl(Duration.ofMillis(50));
+        profileCache = new ProfileCache(cacheProperties, new SimpleMeterRegistry());
+
+        executor = "virtual".equals(threads)
+            ? Executors.newVirtualThreadPerTaskExecutor()
+            : Executors.newFixedThreadPool(200);
+
+        pinnedEvents = new RecordingStream();
+        pinnedEvents.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+        pinnedEvents.onEvent("jdk.VirtualThreadPinned", event -> {
+            pinnedCount.increment();
+            pinnedSites.computeIfAbsent(pinnedSite(event.getStackTrace().getFrames()), site -> new LongAdder())
+                .increment();
+        });
+        pinnedEvents.startAsync();
+    }
+
+    // 반복마다 새로 만들어 teardown 에는 마지막 (측정) 반복의 요청만 남긴다
+    @Setup(Level.Iteration)
+    public void resetRequestTimer() {
+        requestTimer = Timer.builder("request")
+            .publishPercentiles(0.5, 0.99, 0.999)
+            .register(new SimpleMeterRegistry());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pinnedEvents.close();
+        HistogramSnapshot snapshot = requestTimer.takeSnapshot();
+        System.out.printf("%n[%s] request latency (ms): count=%d, max=%.2f%n", threads, snapshot.count(),
+            snapshot.max(TimeUnit.MILLISECONDS));
+        for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+            System.out.printf("  p%-6s %8.2f%n", percentile.percentile() * 100, percentile.value(TimeUnit.MILLISECONDS));
+        }
+        System.out.printf("%n[%s] jdk.VirtualThreadPinned events: %d%n", threads, pinnedCount.sum());
+        pinnedSites.forEach((site, count) -> System.out.printf("  %6d  %s%n", count.sum(), site));
+        executor.shutdownNow();
+        sessionFactory.close();
+        dataSource.close();
+    }
+
+    @Benchmark
+    public int requests() throws Exception {
+        List<Future<Integer>> futures = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            futures.add(executor.submit(this::handle));
+        }
+        int total = 0;
+        for (Future<Integer> future : futures) {
+            total += future.get();
+        }
+        return total;
+    }
+
+    private int handle() {
+        long startedAt = System.nanoTime();
+        try {
+            return serve();
+        } finally {
+            requestTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private int serve() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String email = email(random.nextInt(USER_COUNT));
+        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(ioLatencyMillis));
+
+        List<ProfileResponse> profiles = profileCache.get(email, () -> sessionFactory.fromTransaction(session -> {
+            session.setDefaultReadOnly(true);
+            session.setHibernateFlushMode(FlushMode.MANUAL);
+            List<ProfileResponse> result = session.createSelectionQuery(PROFILES_QUERY, ProfileResponse.class)
+                .setParameter("email", email)
+                .getResultList();
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(dbLatencyMillis));
+            return result;
+        }));
+        return profiles.size() + TokenDigest.sha256(email).length;
+    }
+
+    private static String email(int i) {
+        return "bench" + i + "@test.com";
+    }
+
+    // 자바 표준/JFR 프레임을 건너뛴 첫 호출 위치
+    private static String pinnedSite(List<RecordedFrame> frames) {
+        for (RecordedFrame frame : frames) {
+            String type = frame.getMethod().getType().getName();
+            if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+                return type + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+            }
+        }
+        return frames.isEmpty() ? "<unknown>" : frames.get(0).getMethod().getType().getName();
+    }
+}
@@ -4,6 +4,7 @@ import java.util.TimeZone;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.context.annotation.ComponentScan;
 
 import jakarta.annotation.PostConstruct;
@@ -13,6 +14,7 @@ import jakarta.annotation.PostConstruct;
 	"com.forrrest.authservice",
 	"com.forrrest.common"
 })
+@ConfigurationPropertiesScan("com.forrrest.authservice.config")
 public class AuthServiceApplication {
 
 	public static void main(String[] args) {
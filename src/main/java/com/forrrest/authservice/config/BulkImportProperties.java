@@ -0,0 +1,18 @@
+package com.forrrest.authservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "auth.bulk-import")
+public class BulkImportProperties {
+
+    // 한 트랜잭션으로 저장하는 행 수 (중복 조회, 해시, 진행 상황 보고 단위)
+    private int batchSize = 1000;
+
+    // 일괄 등록 전용 BCrypt 스레드 수, 0 이하이면 가용 코어 수의 절반 (로그인 해시 풀과 분리)
+    private int hashPoolSize = 0;
+}
@@ -0,0 +1,32 @@
+package com.forrrest.authservice.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "auth.email-filter")
+public class EmailFilterProperties {
+
+    private boolean enabled = true;
+
+    private long expectedInsertions = 1_000_000;
+
+    private double falsePositiveRate = 0.01;
+
+    // 재기동 시 전체 재조회를 피하기 위한 스냅샷 파일 (비우면 저장하지 않음)
+    private String snapshotPath = "data/email-filter.snapshot";
+
+    // 다른 인스턴스에서 가입한 사용자를 반영하기 위한 증분 동기화 주기
+    private Duration syncInterval = Duration.ofSeconds(30);
+
+    // 동기화 시 한 번에 읽는 사용자 수 (페이지마다 트랜잭션을 끊는다)
+    private int syncPageSize = 10_000;
+
+    // created_at 은 각 인스턴스 시계로 커밋 전에 기록되므로 커밋 지연과 인스턴스 간 시계 차이만큼 이전 구간을 다시 읽는다
+    private Duration syncOverlap = Duration.ofMinutes(5);
+}
@@ -0,0 +1,18 @@
+package com.forrrest.authservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "auth.id-block")
+public class IdBlockProperties {
+
+    // id_generator 를 한 번 갱신할 때 받아 두는 id 수 (재기동 시 남은 id 는 버려진다)
+    private int blockSize = 100;
+
+    // 블록 조회 전용 커넥션 수 (메인 풀과 분리)
+    private int poolSize = 2;
+}
@@ -1,9 +1,32 @@
 package com.forrrest.authservice.config;
 
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
+import com.forrrest.authservice.entity.id.IdBlockAllocator;
+import com.zaxxer.hikari.HikariDataSource;
+
 @Configuration
 @EnableJpaAuditing
 public class JpaConfig {
-} 
\ No newline at end of file
+
+    // 메인 DataSource 와 같은 DB 를 바라보는 블록 조회 전용 풀 (DataSource 빈으로 등록하지 않음)
+    @Bean
+    public IdBlockAllocator idBlockAllocator(DataSourceProperties dataSourceProperties, IdBlockProperties properties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+        dataSource.setPoolName("id-block");
+        dataSource.setMaximumPoolSize(properties.getPoolSize());
+        dataSource.setMinimumIdle(1);
+        return new IdBlockAllocator(dataSource, properties.getBlockSize());
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer idBlockAllocatorCustomizer(IdBlockAllocator idBlockAllocator) {
+        return hibernateProperties -> hibernateProperties.put(IdBlockAllocator.SETTING, idBlockAllocator);
+    }
+}
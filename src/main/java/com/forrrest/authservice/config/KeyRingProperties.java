@@ -0,0 +1,20 @@
+package com.forrrest.authservice.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "auth.key-ring")
+public class KeyRingProperties {
+
+    // token.keys, token.current-key-id 를 담은 yml/properties 파일 (비우면 application.yml 의 키만 사용)
+    private String path;
+
+    // 파일 수정 시각을 확인하는 주기
+    private Duration reloadInterval = Duration.ofSeconds(30);
+}
@@ -0,0 +1,45 @@
+package com.forrrest.authservice.config;
+
+import java.time.Duration;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 현재 장비에서 BCrypt 해시 1회가 목표 시간에 가장 가깝게 걸리는 cost 를 찾는다.
+ * cost 가 1 오를 때마다 연산량이 2배가 되므로 최소 cost 만 측정하고 나머지는 추정한다.
+ */
+@Slf4j
+public class PasswordEncoderCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "calibration-Passw0rd!";
+    private static final int SAMPLES = 3;
+
+    private PasswordEncoderCalibrator() { /* Util 클래스이므로 인스턴스화 금지 */ }
+
+    public static int calibrate(Duration target, int minStrength, int maxStrength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(minStrength);
+        encoder.encode(SAMPLE_PASSWORD); // warm-up
+
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long startedAt = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            best = Math.min(best, System.nanoTime() - startedAt);
+        }
+
+        int strength = minStrength;
+        long estimated = best;
+        // 다음 cost 의 예상 시간이 현재보다 목표에 더 가까우면 올린다
+        while (strength < maxStrength
+            && Math.abs(estimated * 2 - target.toNanos()) < Math.abs(estimated - target.toNanos())) {
+            strength++;
+            estimated *= 2;
+        }
+
+        log.info("BCrypt strength calibrated: strength={}, estimated={}ms, target={}ms (measured {}ms at {})",
+            strength, estimated / 1_000_000, target.toMillis(), best / 1_000_000, minStrength);
+        return strength;
+    }
+}
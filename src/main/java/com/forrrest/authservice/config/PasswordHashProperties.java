@@ -0,0 +1,35 @@
+package com.forrrest.authservice.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "auth.password-hash")
+public class PasswordHashProperties {
+
+    // 0 이하이면 가용 코어 수를 사용
+    private int poolSize = 0;
+
+    // 대기열이 가득 차면 요청을 503 으로 거절
+    private int queueCapacity = 64;
+
+    // 해시 작업 대기 + 수행 최대 시간
+    private Duration timeout = Duration.ofSeconds(5);
+
+    private long retryAfterSeconds = 1;
+
+    // 지정하면 보정 없이 해당 cost 를 사용
+    private Integer strength;
+
+    // 기동 시 해시 1회가 이 시간에 가장 가깝도록 BCrypt cost 를 보정
+    private Duration targetDuration = Duration.ofMillis(50);
+
+    private int minStrength = 10;
+
+    private int maxStrength = 14;
+}
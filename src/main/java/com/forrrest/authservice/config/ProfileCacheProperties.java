@@ -0,0 +1,22 @@
+package com.forrrest.authservice.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "auth.profile-cache")
+public class ProfileCacheProperties {
+
+    // false 이면 매 조회 ProfileRepository 로 위임
+    private boolean enabled = true;
+
+    private long maximumSize = 10_000;
+
+    // 다른 인스턴스에서 변경된 프로필이 반영되기까지의 최대 시간
+    private Duration ttl = Duration.ofMinutes(10);
+}
@@ -0,0 +1,18 @@
+package com.forrrest.authservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "auth.profile-page")
+public class ProfilePageProperties {
+
+    // size 를 지정하지 않은 요청의 페이지 크기
+    private int defaultSize = 50;
+
+    // 요청한 size 가 더 크면 이 값으로 줄인다
+    private int maxSize = 200;
+}
@@ -0,0 +1,51 @@
+package com.forrrest.authservice.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "auth.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // IP/email 버킷 수 상한 (초과 시 Caffeine 이 빈도가 낮은 키부터 제거)
+    private long maximumKeys = 100_000;
+
+    // 마지막 요청 후 이 시간이 지난 버킷 제거 (route 의 refill-period 보다 짧으면 refill-period 사용)
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    // route 이름(login, signup, refresh) 별 한도
+    private Map<String, Route> routes = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Route {
+
+        // POST 요청 URI 와 정확히 일치해야 적용
+        private String path;
+
+        // 비우면 해당 키로는 제한하지 않음
+        private Limit ip;
+
+        private Limit email;
+    }
+
+    @Getter
+    @Setter
+    public static class Limit {
+
+        // 연속으로 허용하는 요청 수
+        private int capacity;
+
+        // capacity 개가 다시 채워지는 시간
+        private Duration refillPeriod = Duration.ofMinutes(1);
+    }
+}
@@ -0,0 +1,28 @@
+package com.forrrest.authservice.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "auth.refresh-rotation")
+public class RefreshRotationProperties {
+
+    private Mode mode = Mode.BEFORE_EXPIRY;
+
+    // BEFORE_EXPIRY: 남은 유효기간이 이 값보다 짧을 때만 교체
+    private Duration window = Duration.ofDays(1);
+
+    // SLIDING: 발급 후 이 시간이 지난 토큰을 교체해 활동 중인 사용자의 만료를 뒤로 민다
+    private Duration slidingInterval = Duration.ofHours(1);
+
+    public enum Mode {
+        ALWAYS,
+        BEFORE_EXPIRY,
+        SLIDING
+    }
+}
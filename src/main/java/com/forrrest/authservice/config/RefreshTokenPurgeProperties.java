@@ -0,0 +1,27 @@
+package com.forrrest.authservice.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "auth.refresh-token-purge")
+public class RefreshTokenPurgeProperties {
+
+    private boolean enabled = true;
+
+    private Duration interval = Duration.ofMinutes(10);
+
+    // 한 트랜잭션에서 지우는 최대 행 수 (락 유지 시간과 binlog 이벤트 크기를 제한)
+    private int chunkSize = 1_000;
+
+    // 청크 사이 대기 시간 (복제 지연과 다른 쓰기 요청에 여유를 준다)
+    private Duration pause = Duration.ofMillis(200);
+
+    // 한 번 실행에서 처리할 최대 청크 수, 남은 행은 다음 주기에 처리
+    private int maxChunksPerRun = 100;
+}
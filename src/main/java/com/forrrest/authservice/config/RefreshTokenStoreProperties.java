@@ -0,0 +1,29 @@
+package com.forrrest.authservice.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "auth.refresh-token-store")
+public class RefreshTokenStoreProperties {
+
+    // false 이면 요청 트랜잭션 안에서 바로 저장
+    private boolean writeBehind = true;
+
+    private Duration flushInterval = Duration.ofMillis(10);
+
+    private int batchSize = 500;
+
+    // 반영되지 않은 토큰 수 상한. 넘으면 새 이메일은 write-through 로 저장
+    private int maxPending = 100_000;
+
+    // DB 장애로 배치가 실패하면 이 간격부터 두 배씩 늘려 max-retry-backoff 까지 기다렸다 다시 시도
+    private Duration retryBackoff = Duration.ofMillis(100);
+
+    private Duration maxRetryBackoff = Duration.ofSeconds(10);
+}
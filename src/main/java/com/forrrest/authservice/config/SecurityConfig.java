@@ -1,17 +1,27 @@
 package com.forrrest.authservice.config;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.autoconfigure.web.server.ManagementPortType;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.util.Map;
+
+import com.forrrest.authservice.security.CachingUserTokenFilter;
+import com.forrrest.authservice.security.RateLimitFilter;
 import com.forrrest.common.security.filter.UserTokenFilter;
 
 @Configuration
@@ -19,28 +29,80 @@ import com.forrrest.common.security.filter.UserTokenFilter;
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+    private static final String BCRYPT_ID = "bcrypt";
+
     private final UserTokenFilter userTokenFilter;
+    private final CachingUserTokenFilter cachingUserTokenFilter;
+    private final RateLimitFilter rateLimitFilter;
+    private final Environment environment;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+        // 지표(metrics, prometheus)는 외부에 열지 않는 관리 포트(management.server.port)에서만 공개하고,
+        // 관리 포트를 따로 두지 않은 설정에서는 관리자만 읽는다
+        boolean separateManagementPort = ManagementPortType.get(environment) == ManagementPortType.DIFFERENT;
         http
             .csrf(AbstractHttpConfigurer::disable)
             .sessionManagement(session -> 
                 session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
-            .authorizeHttpRequests(auth -> auth
-                .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
-                .requestMatchers("/auth/**").permitAll()
-                .requestMatchers("/actuator/**").permitAll()
-                .requestMatchers("/users/**", "/profiles/**").hasRole("USER")
-                .anyRequest().denyAll()
-            )
-            .addFilterBefore(userTokenFilter, UsernamePasswordAuthenticationFilter.class);
+            .authorizeHttpRequests(auth -> {
+                auth
+                    .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
+                    .requestMatchers("/auth/**").permitAll()
+                    .requestMatchers(EndpointRequest.to(HealthEndpoint.class)).permitAll()
+                    .requestMatchers("/livez", "/readyz").permitAll();
+                if (separateManagementPort) {
+                    auth.requestMatchers(EndpointRequest.toAnyEndpoint()).permitAll();
+                } else {
+                    auth.requestMatchers(EndpointRequest.toAnyEndpoint()).hasRole("ADMIN");
+                }
+                auth
+                    .requestMatchers("/users/**", "/profiles/**").hasRole("USER")
+                    .requestMatchers("/admin/**").hasRole("ADMIN")
+                    .anyRequest().denyAll();
+            })
+            // 로그인/가입/갱신 요청은 IP 별 한도를 먼저 확인
+            .addFilterBefore(rateLimitFilter, UsernamePasswordAuthenticationFilter.class)
+            // 폐기 목록(TokenDenylist) 확인을 위해 캐시 사용 여부와 관계없이 CachingUserTokenFilter 를 사용
+            .addFilterBefore(cachingUserTokenFilter, UsernamePasswordAuthenticationFilter.class);
         
         return http.build();
     }
 
+    // 토큰 필터는 security filter chain 에서만 실행되도록 서블릿 필터 자동 등록을 막는다
+    @Bean
+    public FilterRegistrationBean<UserTokenFilter> userTokenFilterRegistration() {
+        FilterRegistrationBean<UserTokenFilter> registration = new FilterRegistrationBean<>(userTokenFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    @Bean
+    public FilterRegistrationBean<CachingUserTokenFilter> cachingUserTokenFilterRegistration() {
+        FilterRegistrationBean<CachingUserTokenFilter> registration = new FilterRegistrationBean<>(cachingUserTokenFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration() {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(rateLimitFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashProperties properties) {
+        int strength = properties.getStrength() != null
+            ? properties.getStrength()
+            : PasswordEncoderCalibrator.calibrate(
+                properties.getTargetDuration(), properties.getMinStrength(), properties.getMaxStrength());
+
+        // 해시 앞에 {bcrypt} 를 붙여 알고리즘을 함께 저장하고, 접두사 없는 기존 해시도 검증한다
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(strength);
+        DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(
+            BCRYPT_ID, Map.of(BCRYPT_ID, bcrypt));
+        passwordEncoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return passwordEncoder;
     }
 } 
\ No newline at end of file
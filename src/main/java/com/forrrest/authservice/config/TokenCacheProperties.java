@@ -0,0 +1,17 @@
+package com.forrrest.authservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "auth.token-cache")
+public class TokenCacheProperties {
+
+    // false 이면 캐시하지 않고 매 요청 서명 검증
+    private boolean enabled = true;
+
+    private long maximumSize = 100_000;
+}
@@ -0,0 +1,22 @@
+package com.forrrest.authservice.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "auth.token-denylist")
+public class TokenDenylistProperties {
+
+    // 만료 시각을 이 폭으로 묶어 버킷 단위로 제거
+    private Duration bucketWidth = Duration.ofMinutes(1);
+
+    private Duration cleanupInterval = Duration.ofMinutes(1);
+
+    // 재기동 후에도 폐기 목록을 유지하기 위한 추가 전용 로그 (비우면 저장하지 않음)
+    private String logPath = "data/token-denylist.log";
+}
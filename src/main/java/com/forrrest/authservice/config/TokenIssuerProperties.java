@@ -0,0 +1,15 @@
+package com.forrrest.authservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "auth.token-issuer")
+public class TokenIssuerProperties {
+
+    // false 이면 forrrest-common 의 JwtTokenProvider 로 발급
+    private boolean enabled = true;
+}
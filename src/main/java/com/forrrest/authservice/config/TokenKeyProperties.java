@@ -0,0 +1,27 @@
+package com.forrrest.authservice.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+// forrrest-common 의 TokenProperties 와 같은 token.keys 설정을 서명 키 조회용으로 바인딩
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "token")
+public class TokenKeyProperties {
+
+    private Map<String, Key> keys = new LinkedHashMap<>();
+
+    private String currentKeyId;
+
+    @Getter
+    @Setter
+    public static class Key {
+        private String id;
+        private String secret;
+    }
+}
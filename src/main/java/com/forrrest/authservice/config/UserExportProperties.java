@@ -0,0 +1,17 @@
+package com.forrrest.authservice.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "auth.user-export")
+public class UserExportProperties {
+
+    // created_at 은 커밋 전에 각 인스턴스 시계로 기록되므로 커서보다 이만큼 이전 구간을 다시 읽는다
+    private Duration overlap = Duration.ofMinutes(5);
+}
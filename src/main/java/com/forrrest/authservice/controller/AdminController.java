@@ -0,0 +1,111 @@
+package com.forrrest.authservice.controller;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.forrrest.authservice.dto.response.BulkImportEvent;
+import com.forrrest.authservice.service.BulkImportFormat;
+import com.forrrest.authservice.service.BulkUserImportService;
+import com.forrrest.authservice.service.UserExportService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+@Tag(name = "Admin", description = "관리자 API")
+@RestController
+@RequestMapping("/admin")
+@RequiredArgsConstructor
+public class AdminController {
+
+    private final BulkUserImportService bulkUserImportService;
+    private final UserExportService userExportService;
+    private final ObjectMapper objectMapper;
+
+    @Operation(summary = "사용자 일괄 등록",
+            description = "NDJSON 또는 CSV(헤더: email,username,password,passwordHash) 본문을 스트리밍으로 읽어 사용자와 기본 프로필을 등록합니다. "
+                    + "행마다 password 또는 BCrypt passwordHash 중 하나를 입력합니다. "
+                    + "응답은 행 오류(ERROR), 배치마다의 진행 상황(PROGRESS), 마지막 요약(SUMMARY)을 NDJSON 으로 보냅니다.",
+            security = @SecurityRequirement(name = "bearer-token"))
+    @PostMapping(value = "/users/import",
+            consumes = {MediaType.APPLICATION_NDJSON_VALUE, BulkImportFormat.TEXT_CSV_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void importUsers(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        MediaType contentType = MediaType.parseMediaType(request.getContentType());
+        Charset charset = contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+        NdjsonWriter writer = new NdjsonWriter(response);
+
+        BulkImportEvent summary = bulkUserImportService.importUsers(BulkImportFormat.from(contentType),
+            new InputStreamReader(request.getInputStream(), charset),
+            event -> writer.write(event, event.getType() != BulkImportEvent.Type.ERROR));
+        writer.write(summary, true);
+    }
+
+    @Operation(summary = "사용자 내보내기",
+            description = "사용자를 가입 시각 순서로 프로필과 함께 NDJSON 으로 보냅니다. "
+                    + "중단된 경우 마지막으로 받은 줄의 cursor 를 지정해 이어서 받습니다. "
+                    + "늦게 커밋된 가입자를 놓치지 않도록 cursor 이전 일정 구간을 다시 보내므로 user.id 로 중복을 제거합니다.",
+            security = @SecurityRequirement(name = "bearer-token"))
+    @GetMapping(value = "/users/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void exportUsers(@RequestParam(required = false) String cursor, HttpServletResponse response) {
+        NdjsonWriter writer = new NdjsonWriter(response);
+        // 응답 버퍼가 찰 때마다 내보내므로 줄마다 flush 하지 않는다
+        userExportService.exportUsers(cursor, user -> writer.write(user, false));
+        writer.flush();
+    }
+
+    // 첫 줄을 쓸 때 응답을 시작한다 (그 전의 예외는 AuthGlobalExceptionHandler 가 처리)
+    private class NdjsonWriter {
+        private final HttpServletResponse response;
+        private PrintWriter writer;
+
+        private NdjsonWriter(HttpServletResponse response) {
+            this.response = response;
+        }
+
+        private void write(Object value, boolean flush) {
+            try {
+                start();
+                writer.write(objectMapper.writeValueAsString(value));
+                writer.write('\n');
+                if (flush) {
+                    writer.flush();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void flush() {
+            try {
+                start();
+                writer.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void start() throws IOException {
+            if (writer == null) {
+                response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+                response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+                writer = response.getWriter();
+            }
+        }
+    }
+}
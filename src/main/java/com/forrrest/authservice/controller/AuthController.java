@@ -5,6 +5,7 @@ import com.forrrest.authservice.dto.request.SignupRequest;
 import com.forrrest.authservice.dto.request.RefreshTokenRequest;
 import com.forrrest.authservice.dto.response.AuthResponse;
 import com.forrrest.authservice.dto.response.UserResponse;
+import com.forrrest.authservice.security.RateLimiter;
 import com.forrrest.authservice.service.AuthService;
 
 import com.forrrest.authservice.utils.cookies.CookieUtils;
@@ -30,17 +31,23 @@ import org.springframework.web.util.WebUtils;
 @RequiredArgsConstructor
 public class AuthController {
 
+    private static final String BEARER_PREFIX = "Bearer ";
+
     private final AuthService authService;
+    private final RateLimiter rateLimiter;
 
     @Operation(summary = "회원가입", description = "새로운 사용자를 등록합니다.")
     @PostMapping("/signup")
     public ResponseEntity<UserResponse> signup(@Valid @RequestBody SignupRequest request) {
+        rateLimiter.checkEmail(RateLimiter.SIGNUP, request.getEmail());
         return ResponseEntity.ok(authService.signup(request));
     }
 
     @Operation(summary = "로그인", description = "사용자 인증 후 토큰을 발급합니다.")
     @PostMapping("/login")
     public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request, HttpServletResponse httpServletResponse) {
+        // 트랜잭션을 열기 전에 email 별 한도를 확인 (IP 별 한도는 RateLimitFilter)
+        rateLimiter.checkEmail(RateLimiter.LOGIN, request.getEmail());
         AuthResponse authResponse = authService.login(request);
         ResponseCookie refreshCookie = CookieUtils.createRefreshTokenCookie(
                 authResponse.getUserToken().getRefreshToken(),
@@ -76,17 +83,23 @@ public class AuthController {
 
     }
 
-    @Operation(summary = "로그아웃(쿠키 삭제)", description = "헤더에 입력된 리프레시 토큰을 사용하여 로그아웃합니다.")
+    @Operation(summary = "로그아웃(쿠키 삭제)", description = "쿠키의 리프레시 토큰과 헤더의 액세스 토큰을 폐기하고 로그아웃합니다.",
+            security = {@SecurityRequirement(name = CookieUtils.COOKIE_NAME), @SecurityRequirement(name = "bearer-token")})
     @PostMapping("/logout")
-    public ResponseEntity<Void> logout(HttpServletResponse response) {
-        // 1) 쿠키 삭제용 ResponseCookie 생성
-        ResponseCookie deleteCookie = CookieUtils.deleteRefreshTokenCookie();
+    public ResponseEntity<Void> logout(HttpServletRequest request, HttpServletResponse response) {
+        // 1) 리프레시/액세스 토큰 폐기 (사용자의 다른 토큰도 함께 거절)
+        Cookie cookie = WebUtils.getCookie(request, CookieUtils.COOKIE_NAME);
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        authService.logout(
+                cookie == null ? null : cookie.getValue(),
+                authorization != null && authorization.startsWith(BEARER_PREFIX)
+                        ? authorization.substring(BEARER_PREFIX.length()) : null
+        );
 
-        // 2) HTTP 헤더에 추가
+        // 2) 쿠키 삭제용 ResponseCookie 생성 후 HTTP 헤더에 추가
+        ResponseCookie deleteCookie = CookieUtils.deleteRefreshTokenCookie();
         response.addHeader(HttpHeaders.SET_COOKIE, deleteCookie.toString());
 
-        //todo refreshToken 삭제 코드 추가, accessToken redis 블랙리스트 추가
-
         // 3) 204 No Content 로 응답
         return ResponseEntity.noContent().build();
     }
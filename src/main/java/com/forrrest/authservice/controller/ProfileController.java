@@ -2,6 +2,7 @@ package com.forrrest.authservice.controller;
 
 import com.forrrest.authservice.dto.request.ProfileRequest;
 import com.forrrest.authservice.dto.response.AuthResponse;
+import com.forrrest.authservice.dto.response.ProfilePageResponse;
 import com.forrrest.authservice.dto.response.ProfileResponse;
 import com.forrrest.authservice.service.ProfileService;
 
@@ -16,8 +17,6 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @Tag(name = "Profile", description = "프로필 API")
 @RestController
 @RequestMapping("/profiles")
@@ -35,11 +34,17 @@ public class ProfileController {
         return ResponseEntity.ok(profileService.createProfile(userDetails.getUsername(), request));
     }
 
-    @Operation(summary = "프로필 목록 조회", description = "사용자의 모든 프로필을 조회합니다.")
+    @Operation(summary = "프로필 목록 조회",
+        description = "사용자의 프로필을 id 순서로 size 개씩 조회합니다. 다음 페이지는 응답의 nextCursor 를 cursor 로 지정합니다. "
+            + "[BREAKING CHANGE] 응답이 프로필 배열에서 { profiles, nextCursor } 객체로 바뀌었고, "
+            + "size 를 지정하지 않아도 기본 크기만큼만 반환합니다.")
     @SecurityRequirement(name = "bearer-token")
     @GetMapping
-    public ResponseEntity<List<ProfileResponse>> getProfiles(@AuthenticationPrincipal UserDetails userDetails) {
-        return ResponseEntity.ok(profileService.getProfiles(userDetails.getUsername()));
+    public ResponseEntity<ProfilePageResponse> getProfiles(
+        @AuthenticationPrincipal UserDetails userDetails,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(profileService.getProfiles(userDetails.getUsername(), cursor, size));
     }
 
     @Operation(summary = "프로필 상세 조회", description = "특정 프로필의 상세 정보를 조회합니다.")
@@ -0,0 +1,37 @@
+package com.forrrest.authservice.dto.request;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 일괄 등록 한 행 (NDJSON 한 줄 또는 CSV 한 행)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkUserImportRow {
+
+    @NotBlank(message = "이메일은 필수입니다.")
+    @Email(message = "올바른 이메일 형식이 아닙니다.")
+    private String email;
+
+    @NotBlank(message = "사용자 이름은 필수입니다.")
+    private String username;
+
+    @Pattern(regexp = "^(?=.*[A-Za-z])(?=.*\\d)(?=.*[@$!%*#?&])[A-Za-z\\d@$!%*#?&]{8,}$",
+            message = "비밀번호는 8자 이상, 영문, 숫자, 특수문자를 포함해야 합니다.")
+    private String password;
+
+    // 다른 시스템에서 옮겨 오는 BCrypt 해시 (그대로 저장, {bcrypt} 접두사는 선택)
+    @Pattern(regexp = "^(\\{bcrypt\\})?\\$2[aby]?\\$\\d{2}\\$[./A-Za-z0-9]{53}$",
+            message = "passwordHash 는 BCrypt 해시여야 합니다.")
+    private String passwordHash;
+
+    @AssertTrue(message = "password 와 passwordHash 중 하나만 입력해야 합니다.")
+    public boolean isPasswordProvided() {
+        return (password == null) != (passwordHash == null);
+    }
+}
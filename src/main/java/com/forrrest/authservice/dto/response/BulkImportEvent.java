@@ -0,0 +1,48 @@
+package com.forrrest.authservice.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.forrrest.authservice.exception.ErrorCode;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 일괄 등록 응답의 NDJSON 한 줄: 행 오류, 배치마다의 진행 상황, 마지막 요약
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkImportEvent {
+
+    public enum Type {
+        ERROR, PROGRESS, SUMMARY
+    }
+
+    private final Type type;
+    private final Long line;
+    private final String email;
+    private final String code;
+    private final String message;
+    private final Long processed;
+    private final Long imported;
+    private final Long failed;
+    private final Long elapsedMillis;
+
+    public static BulkImportEvent error(long line, String email, ErrorCode errorCode, String message) {
+        return BulkImportEvent.builder()
+            .type(Type.ERROR)
+            .line(line)
+            .email(email)
+            .code(errorCode.getCode())
+            .message(message != null ? message : errorCode.getMessage())
+            .build();
+    }
+
+    public static BulkImportEvent progress(Type type, long processed, long imported, long failed, long elapsedMillis) {
+        return BulkImportEvent.builder()
+            .type(type)
+            .processed(processed)
+            .imported(imported)
+            .failed(failed)
+            .elapsedMillis(elapsedMillis)
+            .build();
+    }
+}
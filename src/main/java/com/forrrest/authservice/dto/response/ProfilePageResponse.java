@@ -0,0 +1,14 @@
+package com.forrrest.authservice.dto.response;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 프로필 목록 한 페이지 (nextCursor 가 null 이면 마지막 페이지)
+@Getter
+@Builder
+public class ProfilePageResponse {
+    private List<ProfileResponse> profiles;
+    private String nextCursor;
+}
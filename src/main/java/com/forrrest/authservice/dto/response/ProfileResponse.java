@@ -1,6 +1,8 @@
 package com.forrrest.authservice.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.forrrest.authservice.entity.Profile;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -8,9 +10,12 @@ import java.time.LocalDateTime;
 
 @Getter
 @Builder
+@AllArgsConstructor  // JPQL constructor expression (ProfileRepository)
+@JsonIgnoreProperties("default")  // Lombok getter isDefault() 의 프로퍼티 이름은 default
 public class ProfileResponse {
     private Long id;
     private String name;
+    private boolean isDefault;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -18,6 +23,7 @@ public class ProfileResponse {
         return ProfileResponse.builder()
                 .id(profile.getId())
                 .name(profile.getName())
+                .isDefault(profile.isDefault())
                 .createdAt(profile.getCreatedAt())
                 .updatedAt(profile.getUpdatedAt())
                 .build();
@@ -0,0 +1,17 @@
+package com.forrrest.authservice.dto.response;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 사용자 내보내기 NDJSON 한 줄 (중단되면 마지막으로 받은 줄의 cursor 로 이어서 받는다)
+@Getter
+@Builder
+public class UserExportResponse {
+    private UserResponse user;
+    // ProfileResponse 는 default 플래그를 응답에서 숨기므로 기본 프로필은 이 필드로 알려준다
+    private Long defaultProfileId;
+    private List<ProfileResponse> profiles;
+    private String cursor;
+}
@@ -1,6 +1,7 @@
 package com.forrrest.authservice.dto.response;
 
 import com.forrrest.authservice.entity.User;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -8,6 +9,7 @@ import java.time.LocalDateTime;
 
 @Getter
 @Builder
+@AllArgsConstructor  // JPQL constructor expression (UserRepository)
 public class UserResponse {
     private Long id;
     private String email;
@@ -1,5 +1,6 @@
 package com.forrrest.authservice.entity;
 
+import com.forrrest.authservice.entity.id.PooledId;
 import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Getter;
@@ -8,10 +9,14 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor
+@Table(indexes = {
+    @Index(name = "ix_profile_user_id_is_default", columnList = "user_id, is_default"),
+    @Index(name = "ix_profile_user_id_id", columnList = "user_id, id")
+})
 public class Profile extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledId("profile")
     private Long id;
 
     @Column(nullable = false)
@@ -2,6 +2,8 @@ package com.forrrest.authservice.entity;
 
 import java.time.LocalDateTime;
 
+import com.forrrest.authservice.utils.digest.TokenDigest;
+
 import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Getter;
@@ -10,15 +12,25 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor
-@Table(name = "refresh_tokens")
+@Table(name = "refresh_tokens", indexes = {
+    @Index(name = "ux_refresh_tokens_token_digest", columnList = "token_digest", unique = true),
+    @Index(name = "ix_refresh_tokens_expiry_date", columnList = "expiry_date, email")
+})
 public class RefreshToken extends BaseTimeEntity {
 
+    public static final int TOKEN_MAX_LENGTH = 512;
+
     @Id
     private String email;  // 사용자 이메일을 PK로 사용
 
-    @Column(nullable = false)
+    // jti 가 붙은 토큰은 255자를 넘는다 (기존 테이블은 RefreshTokenColumnMigration 이 늘린다)
+    @Column(nullable = false, length = TOKEN_MAX_LENGTH)
     private String refreshToken;
 
+    // refreshToken 의 SHA-256, 조회는 이 컬럼의 unique index 로만 한다
+    @Column(name = "token_digest", columnDefinition = "BINARY(32)")
+    private byte[] tokenDigest;
+
     @Column(nullable = false)
     private LocalDateTime expiryDate;
 
@@ -26,15 +38,21 @@ public class RefreshToken extends BaseTimeEntity {
     public RefreshToken(String email, String refreshToken, LocalDateTime expiryDate) {
         this.email = email;
         this.refreshToken = refreshToken;
+        this.tokenDigest = TokenDigest.sha256(refreshToken);
         this.expiryDate = expiryDate;
     }
 
     public RefreshToken updateToken(String refreshToken, LocalDateTime expiryDate) {
         this.refreshToken = refreshToken;
+        this.tokenDigest = TokenDigest.sha256(refreshToken);
         this.expiryDate = expiryDate;
         return this;
     }
 
+    public void backfillTokenDigest() {
+        this.tokenDigest = TokenDigest.sha256(refreshToken);
+    }
+
     public boolean isExpired() {
         return LocalDateTime.now().isAfter(expiryDate);
     }
@@ -1,9 +1,15 @@
 package com.forrrest.authservice.entity;
 
+import com.forrrest.authservice.entity.id.PooledId;
 import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -11,13 +17,16 @@ import java.util.List;
 @Entity
 @Getter
 @NoArgsConstructor
-@Table(name = "users")
+@Table(name = "users", indexes = @Index(name = "ix_users_created_at", columnList = "created_at"))
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
+@NaturalIdCache(region = "users-by-email")
 public class User extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledId("users")
     private Long id;
 
+    @NaturalId
     @Column(nullable = false, unique = true)
     private String email;
 
@@ -27,6 +36,11 @@ public class User extends BaseTimeEntity {
     @Column(nullable = false)
     private String username;
 
+    // 관리 API 권한. 가입/가져오기로는 켜지지 않고 운영자가 DB 에서 직접 지정한다 (2차 캐시 만료 후 다음 로그인부터 반영)
+    @ColumnDefault("false")
+    @Column(nullable = false)
+    private boolean admin;
+
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL)
     private List<Profile> profiles = new ArrayList<>();
 
@@ -36,4 +50,8 @@ public class User extends BaseTimeEntity {
         this.password = password;
         this.username = username;
     }
+
+    public void updatePassword(String password) {
+        this.password = password;
+    }
 } 
\ No newline at end of file
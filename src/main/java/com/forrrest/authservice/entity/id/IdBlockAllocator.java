@@ -0,0 +1,118 @@
+package com.forrrest.authservice.entity.id;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.sql.DataSource;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 테이블별 id 블록을 id_generator 테이블에서 blockSize 개씩 받아 메모리에서 나눠 준다.
+ * 블록 조회는 요청 트랜잭션과 분리된 전용 DataSource 로 한다. 요청 스레드가 메인 풀의 커넥션을 모두 쥔 채
+ * 블록을 기다려도 교착되지 않게 하기 위해서다.
+ * 다음 블록은 항상 max(id) 이후에서 시작하므로 IDENTITY 로 채워진 기존 테이블에도 그대로 적용된다.
+ * 인스턴스마다 다른 블록을 나눠 쓰므로 id 순서는 생성 순서와 다르다. 증분 조회는 id 대신 created_at 을 기준으로 한다.
+ * 테이블은 {@link com.forrrest.authservice.service.IdGeneratorTableMigration} 이 만든다.
+ */
+@Slf4j
+public class IdBlockAllocator implements AutoCloseable {
+
+    // Hibernate 설정 키 (PooledIdGenerator 가 조회)
+    public static final String SETTING = "forrrest.id-block-allocator";
+
+    public static final String TABLE = "id_generator";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int blockSize;
+    private final Map<String, Block> blocks = new ConcurrentHashMap<>();
+
+    public IdBlockAllocator(DataSource dataSource, int blockSize) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        this.blockSize = blockSize;
+    }
+
+    public long next(String table) {
+        return blocks.computeIfAbsent(table, Block::new).next();
+    }
+
+    // 없는 행을 select ... for update 하면 InnoDB 가 gap lock 을 잡아 동시에 첫 블록을 받는 인스턴스끼리 교착되므로
+    // 잠그기 전에 행을 autocommit INSERT 로 먼저 만들어 둔다 (잠금은 항상 있는 행의 record lock 이 된다)
+    private void seed(String table) {
+        Long rows = jdbcTemplate.queryForObject("select count(*) from " + TABLE + " where name = ?", Long.class, table);
+        if (rows != null && rows > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update("insert into " + TABLE + " (name, next_val) values (?, 1)", table);
+        } catch (DuplicateKeyException e) {
+            // 다른 인스턴스가 먼저 행을 만들었다
+        }
+    }
+
+    // 블록 시작값을 반환하고 행의 next_val 을 블록 끝 다음으로 옮긴다
+    private long allocate(String table) {
+        return transactionTemplate.execute(status -> {
+            List<Long> nextValues = jdbcTemplate.queryForList(
+                "select next_val from " + TABLE + " where name = ? for update", Long.class, table);
+            if (nextValues.isEmpty()) {
+                throw new IllegalStateException("id_generator row missing: " + table);
+            }
+            Long maxId = jdbcTemplate.queryForObject("select max(id) from " + table, Long.class);
+            long start = Math.max(nextValues.get(0), maxId == null ? 1 : maxId + 1);
+            jdbcTemplate.update("update " + TABLE + " set next_val = ? where name = ?", start + blockSize, table);
+            log.debug("Id block allocated: table={}, start={}, size={}", table, start, blockSize);
+            return start;
+        });
+    }
+
+    // 전용 풀만 닫는다 (테스트에서 넘기는 DataSource 는 닫을 것이 없다)
+    @Override
+    public void close() {
+        if (dataSource instanceof HikariDataSource pool) {
+            pool.close();
+        }
+    }
+
+    private final class Block {
+        private final String table;
+        private final ReentrantLock lock = new ReentrantLock();
+        private boolean seeded;
+        private long next;
+        private long limit;
+
+        private Block(String table) {
+            this.table = table;
+        }
+
+        private long next() {
+            lock.lock();
+            try {
+                if (next >= limit) {
+                    if (!seeded) {
+                        seed(table);
+                        seeded = true;
+                    }
+                    next = allocate(table);
+                    limit = next + blockSize;
+                }
+                return next++;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.forrrest.authservice.entity.id;
+
+import static java.lang.annotation.ElementType.*;
+import static java.lang.annotation.RetentionPolicy.*;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * IdBlockAllocator 가 메모리로 받아 둔 블록에서 id 를 할당한다.
+ * insert 전에 id 가 정해지므로 IDENTITY 와 달리 flush 시점까지 insert 가 미뤄지고 JDBC 배치로 묶인다.
+ */
+@IdGeneratorType(PooledIdGenerator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface PooledId {
+
+    // id 를 사용하는 테이블 이름 (id_generator 의 행 이름, 초기값 계산에 사용)
+    String value();
+}
@@ -0,0 +1,41 @@
+package com.forrrest.authservice.entity.id;
+
+import java.lang.reflect.Member;
+import java.util.EnumSet;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.AnnotationBasedGenerator;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.generator.GeneratorCreationContext;
+
+// @PooledId 구현. IdBlockAllocator 는 Hibernate 설정(IdBlockAllocator.SETTING)으로 전달받는다
+public class PooledIdGenerator implements BeforeExecutionGenerator, AnnotationBasedGenerator<PooledId> {
+
+    private String table;
+    private transient IdBlockAllocator allocator;
+
+    @Override
+    public void initialize(PooledId config, Member member, GeneratorCreationContext context) {
+        this.table = config.value();
+        Object allocator = context.getServiceRegistry().requireService(ConfigurationService.class)
+            .getSettings().get(IdBlockAllocator.SETTING);
+        if (!(allocator instanceof IdBlockAllocator idBlockAllocator)) {
+            throw new IllegalStateException("Hibernate setting not configured: " + IdBlockAllocator.SETTING);
+        }
+        this.allocator = idBlockAllocator;
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+        EventType eventType) {
+        return allocator.next(table);
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
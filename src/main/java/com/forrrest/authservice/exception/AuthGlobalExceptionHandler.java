@@ -1,6 +1,8 @@
 package com.forrrest.authservice.exception;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -9,17 +11,46 @@ import org.springframework.web.method.annotation.MethodArgumentTypeMismatchExcep
 
 @Slf4j
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class AuthGlobalExceptionHandler {
 
+    private final ErrorCodeCounter errorCodeCounter;
+
+    // 잘못된 비밀번호, 만료 토큰 같은 4xx 는 정상적인 클라이언트 오류이므로 debug 로 남기고 auth.errors 로 집계한다
     @ExceptionHandler(CustomException.class)
     protected ResponseEntity<ErrorResponse> handleCustomException(CustomException e) {
-        log.error("CustomException: {}", e.getMessage());
+        if (e.getErrorCode().getStatus().is5xxServerError()) {
+            log.error("CustomException: {}", e.getMessage());
+        } else {
+            log.debug("CustomException: {}", e.getMessage());
+        }
+        errorCodeCounter.increment(e.getErrorCode());
         return ErrorResponse.toResponseEntity(e.getErrorCode());
     }
 
+    @ExceptionHandler(ServiceBusyException.class)
+    protected ResponseEntity<ErrorResponse> handleServiceBusyException(ServiceBusyException e) {
+        log.warn("ServiceBusyException: {}", e.getMessage());
+        errorCodeCounter.increment(e.getErrorCode());
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()));
+        return ErrorResponse.toResponseEntity(e.getErrorCode(), headers);
+    }
+
+    // 차단된 요청마다 남는 로그가 공격 트래픽만큼 늘지 않도록 debug 로 남기고 auth.errors 로 집계한다
+    @ExceptionHandler(RateLimitExceededException.class)
+    protected ResponseEntity<ErrorResponse> handleRateLimitExceededException(RateLimitExceededException e) {
+        log.debug("RateLimitExceededException: {}", e.getMessage());
+        errorCodeCounter.increment(e.getErrorCode());
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()));
+        return ErrorResponse.toResponseEntity(e.getErrorCode(), headers);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     protected ResponseEntity<ErrorResponse> handleMethodArgumentNotValidException(MethodArgumentNotValidException e) {
-        log.error("MethodArgumentNotValidException: {}", e.getMessage());
+        log.debug("MethodArgumentNotValidException: {}", e.getMessage());
+        errorCodeCounter.increment(ErrorCode.INVALID_INPUT_VALUE);
         return ErrorResponse.toResponseEntity(
                 ErrorCode.INVALID_INPUT_VALUE,
                 e.getBindingResult().getAllErrors().get(0).getDefaultMessage()
@@ -28,13 +59,15 @@ public class AuthGlobalExceptionHandler {
 
     @ExceptionHandler(MethodArgumentTypeMismatchException.class)
     protected ResponseEntity<ErrorResponse> handleMethodArgumentTypeMismatchException(MethodArgumentTypeMismatchException e) {
-        log.error("MethodArgumentTypeMismatchException: {}", e.getMessage());
+        log.debug("MethodArgumentTypeMismatchException: {}", e.getMessage());
+        errorCodeCounter.increment(ErrorCode.INVALID_TYPE_VALUE);
         return ErrorResponse.toResponseEntity(ErrorCode.INVALID_TYPE_VALUE);
     }
 
     @ExceptionHandler(Exception.class)
     protected ResponseEntity<ErrorResponse> handleException(Exception e) {
         log.error("Exception: {}", e.getMessage());
+        errorCodeCounter.increment(ErrorCode.INTERNAL_SERVER_ERROR);
         return ErrorResponse.toResponseEntity(ErrorCode.INTERNAL_SERVER_ERROR);
     }
 } 
\ No newline at end of file
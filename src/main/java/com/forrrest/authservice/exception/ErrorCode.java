@@ -14,6 +14,8 @@ public enum ErrorCode {
     ENTITY_NOT_FOUND(HttpStatus.NOT_FOUND, "C003", "Entity Not Found"),
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "C004", "Server Error"),
     INVALID_TYPE_VALUE(HttpStatus.BAD_REQUEST, "C005", "Invalid Type Value"),
+    SERVICE_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "C006", "Service is Busy"),
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "C007", "Too Many Requests"),
 
     // User
     EMAIL_DUPLICATION(HttpStatus.CONFLICT, "U001", "Email is Duplicated"),
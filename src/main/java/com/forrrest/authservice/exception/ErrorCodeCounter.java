@@ -0,0 +1,32 @@
+package com.forrrest.authservice.exception;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * ErrorCode 별 발생 수 (auth.errors, tag: code, status).
+ * 태그 값은 ErrorCode 로 한정하고, 발생 전에도 0 으로 조회되도록 미리 등록한다.
+ */
+@Component
+public class ErrorCodeCounter {
+
+    private final Map<ErrorCode, Counter> counters = new EnumMap<>(ErrorCode.class);
+
+    public ErrorCodeCounter(MeterRegistry meterRegistry) {
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            counters.put(errorCode, Counter.builder("auth.errors")
+                .tag("code", errorCode.name())
+                .tag("status", String.valueOf(errorCode.getStatus().value()))
+                .register(meterRegistry));
+        }
+    }
+
+    public void increment(ErrorCode errorCode) {
+        counters.get(errorCode).increment();
+    }
+}
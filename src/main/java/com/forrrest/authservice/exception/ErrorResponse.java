@@ -2,6 +2,7 @@ package com.forrrest.authservice.exception;
 
 import lombok.Builder;
 import lombok.Getter;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 
 import java.time.LocalDateTime;
@@ -23,6 +24,17 @@ public class ErrorResponse {
                 );
     }
 
+    public static ResponseEntity<ErrorResponse> toResponseEntity(ErrorCode errorCode, HttpHeaders headers) {
+        return ResponseEntity
+                .status(errorCode.getStatus())
+                .headers(headers)
+                .body(ErrorResponse.builder()
+                        .code(errorCode.getCode())
+                        .message(errorCode.getMessage())
+                        .build()
+                );
+    }
+
     public static ResponseEntity<ErrorResponse> toResponseEntity(ErrorCode errorCode, String message) {
         return ResponseEntity
                 .status(errorCode.getStatus())
@@ -0,0 +1,13 @@
+package com.forrrest.authservice.exception;
+
+import lombok.Getter;
+
+@Getter
+public class ServiceBusyException extends CustomException {
+    private final long retryAfterSeconds;
+
+    public ServiceBusyException(long retryAfterSeconds) {
+        super(ErrorCode.SERVICE_BUSY);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
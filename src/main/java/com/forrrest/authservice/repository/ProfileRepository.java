@@ -1,10 +1,16 @@
 package com.forrrest.authservice.repository;
 
+import com.forrrest.authservice.dto.response.ProfileResponse;
 import com.forrrest.authservice.entity.Profile;
 import com.forrrest.authservice.entity.User;
+import com.forrrest.authservice.repository.projection.ProfileExportView;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,4 +19,45 @@ public interface ProfileRepository extends JpaRepository<Profile, Long> {
     List<Profile> findAllByUser(User user);
     Optional<Profile> findByIdAndUser(Long id, User user);
     boolean existsByNameAndUser(String name, User user);
-} 
\ No newline at end of file
+
+    // users.email 조인으로 사용자 조회 없이, 엔티티 대신 응답 객체로 바로 가져온다
+    @Query("""
+        select new com.forrrest.authservice.dto.response.ProfileResponse(p.id, p.name, p.isDefault, p.createdAt, p.updatedAt)
+        from Profile p join p.user u where u.email = :email
+        """)
+    List<ProfileResponse> findResponsesByUserEmail(@Param("email") String email);
+
+    // ix_profile_user_id_id 만 읽는다 (afterId 다음부터 pageable 크기만큼, 테이블 행은 보지 않는다)
+    @Query("select p.id from Profile p where p.user.id = :userId and p.id > :afterId order by p.id")
+    List<Long> findIdsByUserIdAfter(@Param("userId") Long userId, @Param("afterId") Long afterId, Pageable pageable);
+
+    // PK 조회
+    @Query("""
+        select new com.forrrest.authservice.dto.response.ProfileResponse(p.id, p.name, p.isDefault, p.createdAt, p.updatedAt)
+        from Profile p where p.id in :ids
+        order by p.id
+        """)
+    List<ProfileResponse> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // ix_profile_user_id_is_default
+    @Query("""
+        select new com.forrrest.authservice.dto.response.ProfileResponse(p.id, p.name, p.isDefault, p.createdAt, p.updatedAt)
+        from Profile p where p.user = :user and p.isDefault = true
+        """)
+    Optional<ProfileResponse> findDefaultResponseByUser(@Param("user") User user);
+
+    // 사용자 내보내기 한 페이지의 프로필 (ix_profile_user_id_id)
+    @Query("""
+        select p.user.id as userId, p.id as id, p.name as name, p.isDefault as isDefault,
+               p.createdAt as createdAt, p.updatedAt as updatedAt
+        from Profile p where p.user.id in :userIds
+        order by p.user.id, p.id
+        """)
+    List<ProfileExportView> findExportRowsByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    @Query("select p from Profile p join p.user u where p.id = :id and u.email = :email")
+    Optional<Profile> findByIdAndUserEmail(@Param("id") Long id, @Param("email") String email);
+
+    @Query("select p from Profile p join fetch p.user u where p.id = :id and u.email = :email")
+    Optional<Profile> findWithUserByIdAndUserEmail(@Param("id") Long id, @Param("email") String email);
+}
\ No newline at end of file
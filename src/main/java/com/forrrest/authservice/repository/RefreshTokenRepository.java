@@ -1,13 +1,57 @@
 package com.forrrest.authservice.repository;
 
 import com.forrrest.authservice.entity.RefreshToken;
+import com.forrrest.authservice.repository.projection.RefreshTokenExpiryView;
+import com.forrrest.authservice.repository.projection.RefreshTokenIssuedView;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {  // ID 타입을 String으로 변경
     Optional<RefreshToken> findByRefreshToken(String token);
     boolean existsByRefreshToken(String token);
+    boolean existsByTokenDigest(byte[] tokenDigest);
+
+    // 다이제스트 컬럼 추가 이전에 저장된 행
+    @Query("select r from RefreshToken r where r.tokenDigest is null")
+    List<RefreshToken> findWithoutTokenDigest(Pageable pageable);
+
+    // 만료일 대신 저장 시각(now())이 들어 있던 이전 버전의 행, 갱신된 행은 조건에서 빠진다
+    @Query("""
+        select r.email as email, r.updatedAt as updatedAt from RefreshToken r
+        where r.updatedAt is not null and r.expiryDate <= r.updatedAt
+        """)
+    List<RefreshTokenIssuedView> findWithLegacyExpiryDate(Pageable pageable);
+
+    // 감사 필드(updated_at)를 건드리지 않도록 벌크 update 로 바꾼다
+    @Modifying
+    @Query("update RefreshToken r set r.expiryDate = :expiryDate where r.email = :email")
+    int updateExpiryDate(@Param("email") String email, @Param("expiryDate") LocalDateTime expiryDate);
+
+    // (expiry_date, email) 순 keyset 조회, ix_refresh_tokens_expiry_date 범위 스캔만 사용한다
+    @Query("""
+        select r.email as email, r.expiryDate as expiryDate from RefreshToken r
+        where r.expiryDate < :now
+          and (r.expiryDate > :afterExpiryDate or (r.expiryDate = :afterExpiryDate and r.email > :afterEmail))
+        order by r.expiryDate, r.email
+        """)
+    List<RefreshTokenExpiryView> findExpiredAfter(@Param("now") LocalDateTime now,
+        @Param("afterExpiryDate") LocalDateTime afterExpiryDate, @Param("afterEmail") String afterEmail,
+        Pageable pageable);
+
+    // 조회 이후 재발급으로 만료일이 갱신된 행은 지우지 않는다
+    @Modifying
+    @Query("delete from RefreshToken r where r.email in :emails and r.expiryDate < :now")
+    int deleteExpiredByEmailIn(@Param("emails") Collection<String> emails, @Param("now") LocalDateTime now);
+
+    long countByExpiryDateBefore(LocalDateTime now);
 }
\ No newline at end of file
@@ -1,14 +1,52 @@
 package com.forrrest.authservice.repository;
 
+import com.forrrest.authservice.dto.response.UserResponse;
 import com.forrrest.authservice.entity.User;
+import com.forrrest.authservice.repository.projection.UserEmailView;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
     Optional<User> findByEmailAndPassword(String email, String password);
-} 
\ No newline at end of file
+
+    // 엔티티를 만들지 않고 결과 행에서 바로 응답 객체를 만든다
+    @Query("""
+        select new com.forrrest.authservice.dto.response.UserResponse(u.id, u.email, u.username, u.createdAt, u.updatedAt)
+        from User u where u.email = :email
+        """)
+    Optional<UserResponse> findResponseByEmail(@Param("email") String email);
+
+    // 일괄 등록의 배치 단위 중복 확인 (email unique 인덱스)
+    @Query("select u.email from User u where u.email in :emails")
+    List<String> findEmailsIn(@Param("emails") Collection<String> emails);
+
+    // (created_at, id) 순서의 keyset 페이지 (id 는 인스턴스별 블록에서 받으므로 가입 순서와 맞지 않는다)
+    @Query("""
+        select u.id as id, u.email as email, u.createdAt as createdAt from User u
+        where u.createdAt > :createdAt or (u.createdAt = :createdAt and u.id > :afterId)
+        order by u.createdAt, u.id
+        """)
+    List<UserEmailView> findEmailsCreatedAfter(@Param("createdAt") LocalDateTime createdAt,
+        @Param("afterId") Long afterId, Pageable pageable);
+
+    // 내보내기: (created_at, id) 순서의 keyset 페이지, 엔티티 대신 응답 객체로 바로 가져온다
+    @Query("""
+        select new com.forrrest.authservice.dto.response.UserResponse(u.id, u.email, u.username, u.createdAt, u.updatedAt)
+        from User u
+        where u.createdAt > :createdAt or (u.createdAt = :createdAt and u.id > :afterId)
+        order by u.createdAt, u.id
+        """)
+    List<UserResponse> findResponsesCreatedAfter(@Param("createdAt") LocalDateTime createdAt,
+        @Param("afterId") Long afterId, Pageable pageable);
+}
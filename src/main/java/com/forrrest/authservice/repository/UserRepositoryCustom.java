@@ -0,0 +1,11 @@
+package com.forrrest.authservice.repository;
+
+import java.util.Optional;
+
+import com.forrrest.authservice.entity.User;
+
+public interface UserRepositoryCustom {
+
+    // email natural id 로 조회, 2차 캐시에 있으면 DB 를 거치지 않는다
+    Optional<User> loadByEmail(String email);
+}
@@ -0,0 +1,13 @@
+package com.forrrest.authservice.repository.projection;
+
+import java.time.LocalDateTime;
+
+// 사용자 내보내기의 프로필 한 행 (여러 사용자의 프로필을 한 번에 읽어 userId 로 나눈다)
+public interface ProfileExportView {
+    Long getUserId();
+    Long getId();
+    String getName();
+    Boolean getIsDefault();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getUpdatedAt();
+}
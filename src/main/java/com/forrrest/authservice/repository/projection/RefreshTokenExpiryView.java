@@ -0,0 +1,8 @@
+package com.forrrest.authservice.repository.projection;
+
+import java.time.LocalDateTime;
+
+public interface RefreshTokenExpiryView {
+    String getEmail();
+    LocalDateTime getExpiryDate();
+}
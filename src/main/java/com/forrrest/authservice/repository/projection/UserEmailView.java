@@ -0,0 +1,9 @@
+package com.forrrest.authservice.repository.projection;
+
+import java.time.LocalDateTime;
+
+public interface UserEmailView {
+    Long getId();
+    String getEmail();
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,120 @@
+package com.forrrest.authservice.security;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.stereotype.Component;
+
+import com.forrrest.authservice.config.TokenCacheProperties;
+import com.forrrest.authservice.exception.CustomException;
+import com.forrrest.authservice.exception.ErrorCode;
+import com.forrrest.authservice.token.JwtTokenVerifier;
+import com.forrrest.authservice.token.SigningKeysReloadedEvent;
+import com.forrrest.authservice.token.VerifiedToken;
+import com.forrrest.authservice.utils.digest.TokenDigest;
+import com.forrrest.common.security.token.TokenType;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 검증을 마친 access token 의 Authentication 캐시.
+ * 토큰 다이제스트를 키로 사용하고, 각 항목은 토큰의 exp 시각에 만료된다.
+ */
+@Component
+public class AccessTokenCache {
+
+    private final JwtTokenVerifier jwtTokenVerifier;
+    private final TokenDenylist tokenDenylist;
+    private final Cache<ByteBuffer, CachedAuthentication> cache;
+
+    public AccessTokenCache(JwtTokenVerifier jwtTokenVerifier, TokenDenylist tokenDenylist,
+        TokenCacheProperties properties, MeterRegistry meterRegistry) {
+        this.jwtTokenVerifier = jwtTokenVerifier;
+        this.tokenDenylist = tokenDenylist;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(properties.isEnabled() ? properties.getMaximumSize() : 0)
+            .expireAfter(new ExpiresAtToken())
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "accessTokens");
+    }
+
+    // 캐시에 없으면 서명을 검증해 Authentication 을 만든다 (검증 실패 시 CustomException, 캐시하지 않음)
+    // 폐기 여부는 캐시 적중 시에도 매번 확인한다
+    public Authentication get(String token) {
+        CachedAuthentication cached = cache.get(ByteBuffer.wrap(TokenDigest.sha256(token)), key -> load(token));
+        if (tokenDenylist.isRevoked(cached.token())) {
+            throw new CustomException(ErrorCode.INVALID_TOKEN);
+        }
+        return cached.authentication();
+    }
+
+    public void evict(String token) {
+        cache.invalidate(ByteBuffer.wrap(TokenDigest.sha256(token)));
+    }
+
+    // 빠졌거나 시크릿이 바뀐 kid 로 검증해 둔 토큰은 캐시에서 지워 새 키 집합으로 다시 검증하게 한다
+    // kid 없는 토큰은 현재 키로 검증했으므로 현재 키의 시크릿이 바뀐 경우에만 지운다
+    @EventListener
+    public void onSigningKeysReloaded(SigningKeysReloadedEvent event) {
+        cache.asMap().values().removeIf(entry -> entry.token().getKeyId() == null
+            ? event.currentKeyChanged()
+            : event.changedKeyIds().contains(entry.token().getKeyId()));
+    }
+
+    private CachedAuthentication load(String token) {
+        VerifiedToken verifiedToken = jwtTokenVerifier.verify(token, TokenType.USER_ACCESS);
+        Collection<GrantedAuthority> authorities = authorities(verifiedToken.getClaim("roles"));
+        User principal = new User(verifiedToken.getSubject(), "", authorities);
+        return new CachedAuthentication(
+            UsernamePasswordAuthenticationToken.authenticated(principal, null, authorities),
+            verifiedToken);
+    }
+
+    private static Collection<GrantedAuthority> authorities(Object roles) {
+        if (!(roles instanceof Collection<?> roleNames)) {
+            return List.of();
+        }
+        return roleNames.stream()
+            .map(role -> (GrantedAuthority)new SimpleGrantedAuthority("ROLE_" + role))
+            .toList();
+    }
+
+    private record CachedAuthentication(Authentication authentication, VerifiedToken token) {
+    }
+
+    private static class ExpiresAtToken implements Expiry<ByteBuffer, CachedAuthentication> {
+        @Override
+        public long expireAfterCreate(ByteBuffer key, CachedAuthentication value, long currentTime) {
+            if (value.token().getExpiresAt() == null) {
+                return 0;
+            }
+            return Math.max(0, Duration.between(Instant.now(), value.token().getExpiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, CachedAuthentication value, long currentTime,
+            long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, CachedAuthentication value, long currentTime,
+            long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.forrrest.authservice.security;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.forrrest.authservice.exception.CustomException;
+import com.forrrest.authservice.exception.ErrorCodeCounter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * security.token.user-paths 요청의 USER_ACCESS 토큰을 검증한다.
+ * UserTokenFilter 와 같은 역할이지만 검증 결과를 AccessTokenCache 에 보관해 같은 토큰의 재검증을 생략한다.
+ */
+@Component
+public class CachingUserTokenFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final AccessTokenCache accessTokenCache;
+    private final ErrorCodeCounter errorCodeCounter;
+    private final List<String> userPaths;
+
+    public CachingUserTokenFilter(AccessTokenCache accessTokenCache, ErrorCodeCounter errorCodeCounter,
+        @Value("${security.token.user-paths:}") List<String> userPaths) {
+        this.accessTokenCache = accessTokenCache;
+        this.errorCodeCounter = errorCodeCounter;
+        this.userPaths = userPaths.stream().map(String::trim).filter(path -> !path.isEmpty()).toList();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return userPaths.stream().noneMatch(uri::startsWith);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.startsWith(BEARER_PREFIX)) {
+            try {
+                SecurityContextHolder.getContext()
+                    .setAuthentication(accessTokenCache.get(header.substring(BEARER_PREFIX.length())));
+            } catch (CustomException e) {
+                // 인증 정보 없이 진행하면 인가 단계에서 거절된다
+                errorCodeCounter.increment(e.getErrorCode());
+                SecurityContextHolder.clearContext();
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,59 @@
+package com.forrrest.authservice.security;
+
+import java.io.IOException;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.util.UrlPathHelper;
+
+import com.forrrest.authservice.exception.RateLimitExceededException;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * auth.rate-limit.routes 의 POST 요청을 클라이언트 IP 별로 제한한다.
+ * 요청 본문을 읽기 전에 실행되어 초과 요청은 DB 조회나 해시 없이 429 로 끝난다.
+ * route 는 컨트롤러 매핑과 같은 경로(디코딩, ;jsessionid 같은 경로 파라미터 제거)로 찾는다.
+ * 프록시 뒤에서는 server.forward-headers-strategy 로 remoteAddr 에 실제 클라이언트 IP 가 들어오게 한다.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+    private final HandlerExceptionResolver handlerExceptionResolver;
+
+    public RateLimitFilter(RateLimiter rateLimiter,
+        @Qualifier("handlerExceptionResolver") HandlerExceptionResolver handlerExceptionResolver) {
+        this.rateLimiter = rateLimiter;
+        this.handlerExceptionResolver = handlerExceptionResolver;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod()) || rateLimiter.routeOf(pathOf(request)) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        try {
+            rateLimiter.checkIp(rateLimiter.routeOf(pathOf(request)), request.getRemoteAddr());
+        } catch (RateLimitExceededException e) {
+            // AuthGlobalExceptionHandler 가 429 + Retry-After 로 응답
+            handlerExceptionResolver.resolveException(request, response, null, e);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    // getRequestURI 는 디코딩 전 원문이라 /auth/%6cogin 처럼 인코딩하면 한도를 우회할 수 있다
+    private static String pathOf(HttpServletRequest request) {
+        return UrlPathHelper.defaultInstance.getPathWithinApplication(request);
+    }
+}
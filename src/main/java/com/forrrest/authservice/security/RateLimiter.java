@@ -0,0 +1,131 @@
+package com.forrrest.authservice.security;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.forrrest.authservice.config.RateLimitProperties;
+import com.forrrest.authservice.exception.RateLimitExceededException;
+import com.forrrest.authservice.utils.ratelimit.TokenBucket;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * auth.rate-limit.routes 의 route 별로 클라이언트 IP, email 단위 token bucket 을 적용한다.
+ * 버킷은 크기가 제한된 Caffeine 캐시에 두고 일정 시간 요청이 없는 키는 제거한다.
+ * 캐시 적중 시에는 조회와 버킷 갱신 모두 lock 을 잡지 않는다.
+ */
+@Component
+public class RateLimiter {
+
+    public static final String LOGIN = "login";
+    public static final String SIGNUP = "signup";
+    public static final String REFRESH = "refresh";
+
+    enum KeyType {
+        IP, EMAIL
+    }
+
+    private record BucketKey(String route, KeyType keyType, String value) {
+    }
+
+    private final boolean enabled;
+    private final Map<String, RateLimitProperties.Route> routes;
+    private final Map<String, String> routesByPath = new HashMap<>();
+    private final Map<String, Counter> rejectedCounters = new HashMap<>();
+    private final Cache<BucketKey, TokenBucket> buckets;
+    private final Ticker ticker;
+
+    @Autowired
+    public RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, Ticker.systemTicker());
+    }
+
+    RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry, Ticker ticker) {
+        this.enabled = properties.isEnabled();
+        this.routes = Map.copyOf(properties.getRoutes());
+        this.ticker = ticker;
+
+        Duration idleTimeout = properties.getIdleTimeout();
+        for (Map.Entry<String, RateLimitProperties.Route> entry : routes.entrySet()) {
+            RateLimitProperties.Route route = entry.getValue();
+            if (route.getPath() != null) {
+                routesByPath.put(route.getPath(), entry.getKey());
+            }
+            for (KeyType keyType : KeyType.values()) {
+                RateLimitProperties.Limit limit = limitOf(route, keyType);
+                if (limit == null) {
+                    continue;
+                }
+                // 비어 있지 않은 버킷이 먼저 제거되면 한도가 초기화되므로 refill-period 이상 유지
+                idleTimeout = idleTimeout.compareTo(limit.getRefillPeriod()) < 0 ? limit.getRefillPeriod() : idleTimeout;
+                rejectedCounters.put(counterKey(entry.getKey(), keyType), Counter.builder("auth.rate.limit.rejected")
+                    .tag("route", entry.getKey())
+                    .tag("key", keyType.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry));
+            }
+        }
+
+        this.buckets = Caffeine.newBuilder()
+            .maximumSize(properties.getMaximumKeys())
+            .expireAfterAccess(idleTimeout)
+            .ticker(ticker)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, buckets, "rateLimitBuckets");
+    }
+
+    // POST 요청 URI 에 해당하는 route 이름 (없으면 null)
+    public String routeOf(String path) {
+        return enabled ? routesByPath.get(path) : null;
+    }
+
+    public void checkIp(String route, String ip) {
+        check(route, KeyType.IP, ip);
+    }
+
+    public void checkEmail(String route, String email) {
+        check(route, KeyType.EMAIL, email == null ? null : email.trim().toLowerCase(Locale.ROOT));
+    }
+
+    private void check(String route, KeyType keyType, String value) {
+        if (!enabled || value == null) {
+            return;
+        }
+        RateLimitProperties.Route routeProperties = routes.get(route);
+        RateLimitProperties.Limit limit = routeProperties == null ? null : limitOf(routeProperties, keyType);
+        if (limit == null) {
+            return;
+        }
+
+        TokenBucket bucket = buckets.get(new BucketKey(route, keyType, value),
+            key -> new TokenBucket(limit.getCapacity(), limit.getRefillPeriod()));
+        long waitNanos = bucket.tryAcquire(ticker.read());
+        if (waitNanos > 0) {
+            rejectedCounters.get(counterKey(route, keyType)).increment();
+            throw new RateLimitExceededException(Math.max(1, ceilSeconds(waitNanos)));
+        }
+    }
+
+    private static RateLimitProperties.Limit limitOf(RateLimitProperties.Route route, KeyType keyType) {
+        return keyType == KeyType.IP ? route.getIp() : route.getEmail();
+    }
+
+    private static String counterKey(String route, KeyType keyType) {
+        return route + ':' + keyType;
+    }
+
+    private static long ceilSeconds(long nanos) {
+        return (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,277 @@
+package com.forrrest.authservice.security;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import com.forrrest.authservice.config.TokenDenylistProperties;
+import com.forrrest.authservice.token.VerifiedToken;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 만료 전에 폐기된 토큰 목록.
+ * jti 는 토큰 만료 시각의 버킷에 넣어 두고 버킷이 지나면 통째로 버린다.
+ * 주체 단위 폐기(로그아웃, 비밀번호 변경)는 폐기 시각(ms) 이전에 발급된 토큰을 모두 거절한다.
+ * iat 는 초 단위라 같은 초에 발급된 토큰을 가를 수 없으므로, 폐기 기록이 있는 주체의 토큰에는 발급 시점의
+ * 마지막 폐기 시각을 {@link #REVOCATION_CLAIM} 으로 넣고 그 값이 현재 폐기 시각보다 작으면 거절한다.
+ * 조회는 ConcurrentHashMap 읽기만 하므로 요청 경로에서 락을 잡지 않는다.
+ * 목록은 인스턴스 메모리와 로컬 로그에만 있으므로 단일 인스턴스 배포를 전제로 한다.
+ * 여러 인스턴스로 늘리면 다른 인스턴스에서 한 로그아웃이 access token 만료 전까지 반영되지 않는다.
+ */
+@Slf4j
+@Component
+public class TokenDenylist {
+
+    // 발급 시점에 알고 있던 주체의 마지막 폐기 시각 (epoch ms), 폐기 기록이 없던 주체의 토큰에는 넣지 않는다
+    public static final String REVOCATION_CLAIM = "rev";
+
+    private static final byte TOKEN_ENTRY = 'J';
+    // 이전 형식: 폐기 시각이 초 단위
+    private static final byte LEGACY_SUBJECT_ENTRY = 'S';
+    private static final byte SUBJECT_ENTRY = 'R';
+
+    private final TaskScheduler taskScheduler;
+    private final TokenDenylistProperties properties;
+    private final long bucketWidthSeconds;
+
+    private final Map<Long, Set<String>> tokenBuckets = new ConcurrentHashMap<>();
+    private final Map<String, SubjectRevocation> subjects = new ConcurrentHashMap<>();
+    // 파일 기록 중에 가상 스레드가 캐리어를 점유하지 않도록 synchronized 대신 사용
+    private final ReentrantLock logLock = new ReentrantLock();
+    private DataOutputStream logOut;
+    private ScheduledFuture<?> cleanupTask;
+
+    public TokenDenylist(TaskScheduler taskScheduler, TokenDenylistProperties properties,
+        MeterRegistry meterRegistry) {
+        this.taskScheduler = taskScheduler;
+        this.properties = properties;
+        this.bucketWidthSeconds = Math.max(1, properties.getBucketWidth().toSeconds());
+
+        Gauge.builder("auth.token.denylist.tokens", tokenBuckets,
+                buckets -> buckets.values().stream().mapToInt(Set::size).sum())
+            .register(meterRegistry);
+        Gauge.builder("auth.token.denylist.subjects", subjects, Map::size)
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        load();
+        cleanupTask = taskScheduler.scheduleWithFixedDelay(this::cleanup, properties.getCleanupInterval());
+    }
+
+    // jti 가 없는 토큰(기존 발급분)은 사용자 단위 폐기로만 거절된다
+    public boolean isRevoked(VerifiedToken token) {
+        if (token.getId() != null && token.getExpiresAt() != null && !tokenBuckets.isEmpty()) {
+            Set<String> bucket = tokenBuckets.get(bucketOf(token.getExpiresAt().getEpochSecond()));
+            if (bucket != null && bucket.contains(token.getId())) {
+                return true;
+            }
+        }
+        if (!subjects.isEmpty()) {
+            SubjectRevocation revocation = subjects.get(token.getSubject());
+            if (revocation == null) {
+                return false;
+            }
+            // 클레임이 없으면 폐기 기록이 없을 때 발급된 토큰이므로 폐기와 같은 초에 발급되었어도 거절한다
+            Object knownRevocation = token.getClaim(REVOCATION_CLAIM);
+            if (knownRevocation instanceof Number revokedAt) {
+                return revokedAt.longValue() < revocation.revokedAt();
+            }
+            return token.getIssuedAt() == null || token.getIssuedAt().toEpochMilli() <= revocation.revokedAt();
+        }
+        return false;
+    }
+
+    // 발급할 토큰에 넣을 주체의 마지막 폐기 시각, 기록이 없으면 0
+    public long revocationOf(String subject) {
+        SubjectRevocation revocation = subjects.isEmpty() ? null : subjects.get(subject);
+        return revocation == null ? 0 : revocation.revokedAt();
+    }
+
+    public void revoke(VerifiedToken token) {
+        if (token.getId() == null || token.getExpiresAt() == null) {
+            return;
+        }
+        long expiresAt = token.getExpiresAt().getEpochSecond();
+        addToken(token.getId(), expiresAt);
+        append(TOKEN_ENTRY, token.getId(), expiresAt, 0);
+    }
+
+    // until 은 이 사용자에게 발급된 토큰 중 가장 늦은 만료 시각
+    // 시계가 뒤로 가도 이전 폐기 이후 발급된 토큰이 다시 거절되도록 폐기 시각은 항상 늘어난다
+    public void revokeSubject(String subject, Instant revokedAt, Instant until) {
+        SubjectRevocation revocation = subjects.compute(subject, (key, previous) -> previous == null
+            ? new SubjectRevocation(revokedAt.toEpochMilli(), until.getEpochSecond())
+            : new SubjectRevocation(Math.max(revokedAt.toEpochMilli(), previous.revokedAt() + 1),
+                Math.max(until.getEpochSecond(), previous.expiresAt())));
+        append(SUBJECT_ENTRY, subject, revocation.expiresAt(), revocation.revokedAt());
+    }
+
+    private void addToken(String id, long expiresAt) {
+        tokenBuckets.computeIfAbsent(bucketOf(expiresAt), bucket -> ConcurrentHashMap.newKeySet()).add(id);
+    }
+
+    // 버킷의 마지막 토큰까지 만료된 뒤에 버킷을 버린다
+    private long bucketOf(long expiresAtSeconds) {
+        return expiresAtSeconds / bucketWidthSeconds;
+    }
+
+    void cleanup() {
+        long now = Instant.now().getEpochSecond();
+        boolean tokensRemoved = tokenBuckets.keySet().removeIf(bucket -> (bucket + 1) * bucketWidthSeconds <= now);
+        boolean subjectsRemoved = subjects.values().removeIf(revocation -> revocation.expiresAt() <= now);
+        if (tokensRemoved || subjectsRemoved) {
+            compact();
+        }
+    }
+
+    private void append(byte type, String key, long expiresAt, long revokedAt) {
+        logLock.lock();
+        try {
+            if (logOut == null) {
+                return;
+            }
+            writeEntry(logOut, type, key, expiresAt, revokedAt);
+            logOut.flush();
+        } catch (IOException e) {
+            log.warn("Token denylist entry could not be written: {}", e.getMessage());
+        } finally {
+            logLock.unlock();
+        }
+    }
+
+    private static void writeEntry(DataOutputStream out, byte type, String key, long expiresAt, long revokedAt)
+        throws IOException {
+        out.writeByte(type);
+        out.writeUTF(key);
+        out.writeLong(expiresAt);
+        out.writeLong(revokedAt);
+    }
+
+    private void load() {
+        Path path = logPath();
+        if (path == null) {
+            return;
+        }
+        long now = Instant.now().getEpochSecond();
+        if (Files.exists(path)) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+                while (true) {
+                    byte type = in.readByte();
+                    String key = in.readUTF();
+                    long expiresAt = in.readLong();
+                    long revokedAt = in.readLong();
+                    if (type == TOKEN_ENTRY) {
+                        if ((bucketOf(expiresAt) + 1) * bucketWidthSeconds > now) {
+                            addToken(key, expiresAt);
+                        }
+                    } else if (expiresAt > now) {
+                        // 초 단위 기록은 그 초에 발급된 토큰까지 거절하도록 초의 끝으로 옮긴다
+                        long revokedAtMillis = type == LEGACY_SUBJECT_ENTRY ? revokedAt * 1000 + 999 : revokedAt;
+                        subjects.merge(key, new SubjectRevocation(revokedAtMillis, expiresAt),
+                            SubjectRevocation::latest);
+                    }
+                }
+            } catch (EOFException e) {
+                // 마지막 항목까지 읽음 (기록 중 종료된 항목은 버린다)
+            } catch (IOException e) {
+                log.warn("Token denylist log could not be read: {}", e.getMessage());
+            }
+        }
+        compact();
+        log.info("Token denylist loaded: tokens={}, subjects={}",
+            tokenBuckets.values().stream().mapToInt(Set::size).sum(), subjects.size());
+    }
+
+    // 만료된 항목을 뺀 현재 목록으로 로그를 다시 쓴다
+    private void compact() {
+        Path path = logPath();
+        if (path == null) {
+            return;
+        }
+        logLock.lock();
+        try {
+            closeLog();
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                for (Map.Entry<Long, Set<String>> bucket : tokenBuckets.entrySet()) {
+                    long expiresAt = bucket.getKey() * bucketWidthSeconds;
+                    for (String id : bucket.getValue()) {
+                        writeEntry(out, TOKEN_ENTRY, id, expiresAt, 0);
+                    }
+                }
+                for (Map.Entry<String, SubjectRevocation> subject : subjects.entrySet()) {
+                    writeEntry(out, SUBJECT_ENTRY, subject.getKey(), subject.getValue().expiresAt(),
+                        subject.getValue().revokedAt());
+                }
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logOut = new DataOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(path, StandardOpenOption.CREATE, StandardOpenOption.APPEND)));
+        } catch (IOException e) {
+            log.warn("Token denylist log could not be written: {}", e.getMessage());
+        } finally {
+            logLock.unlock();
+        }
+    }
+
+    private void closeLog() throws IOException {
+        if (logOut != null) {
+            logOut.close();
+            logOut = null;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (cleanupTask != null) {
+            cleanupTask.cancel(false);
+        }
+        logLock.lock();
+        try {
+            closeLog();
+        } catch (IOException e) {
+            log.warn("Token denylist log could not be closed: {}", e.getMessage());
+        } finally {
+            logLock.unlock();
+        }
+    }
+
+    private Path logPath() {
+        String logPath = properties.getLogPath();
+        return logPath == null || logPath.isBlank() ? null : Path.of(logPath);
+    }
+
+    // revokedAt 은 epoch ms, expiresAt 은 epoch 초
+    private record SubjectRevocation(long revokedAt, long expiresAt) {
+
+        SubjectRevocation latest(SubjectRevocation other) {
+            return new SubjectRevocation(Math.max(revokedAt, other.revokedAt), Math.max(expiresAt, other.expiresAt));
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package com.forrrest.authservice.service;
 
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -8,15 +7,19 @@ import com.forrrest.authservice.dto.request.LoginRequest;
 import com.forrrest.authservice.dto.request.SignupRequest;
 import com.forrrest.authservice.dto.request.RefreshTokenRequest;
 import com.forrrest.authservice.dto.response.AuthResponse;
+import com.forrrest.authservice.dto.response.ProfileResponse;
 import com.forrrest.authservice.dto.response.UserResponse;
-import com.forrrest.authservice.entity.Profile;
 import com.forrrest.authservice.entity.User;
 import com.forrrest.authservice.exception.CustomException;
 import com.forrrest.authservice.exception.ErrorCode;
-import com.forrrest.authservice.repository.RefreshTokenRepository;
+import com.forrrest.authservice.exception.ServiceBusyException;
+import com.forrrest.authservice.token.VerifiedToken;
+import com.forrrest.common.security.token.TokenType;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -25,8 +28,8 @@ public class AuthService {
     private final UserService userService;
     private final ProfileService profileService;
     private final TokenService tokenService;
-    private final PasswordEncoder passwordEncoder;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final PasswordHashService passwordHashService;
+    private final RefreshTokenStore refreshTokenStore;
 
     @Transactional
     public UserResponse signup(SignupRequest request) {
@@ -44,39 +47,73 @@ public class AuthService {
     public AuthResponse login(LoginRequest request) {
         User user = userService.getUserByEmail(request.getEmail());
 
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        if (!passwordHashService.matches(request.getPassword(), user.getPassword())) {
             throw new CustomException(ErrorCode.INVALID_PASSWORD);
         }
+        upgradePasswordIfNeeded(user, request.getPassword());
 
-        Profile defaultProfile = profileService.getDefaultProfile(user);
+        ProfileResponse defaultProfile = profileService.getDefaultProfile(user);
         return tokenService.createAuthResponse(user, defaultProfile);
     }
 
+    // 저장된 해시의 cost 가 현재 목표보다 낮으면 로그인 시점에 재해시 (dirty checking 으로 저장)
+    private void upgradePasswordIfNeeded(User user, String rawPassword) {
+        if (!passwordHashService.upgradeEncoding(user.getPassword())) {
+            return;
+        }
+        try {
+            user.updatePassword(passwordHashService.encode(rawPassword));
+        } catch (ServiceBusyException e) {
+            // 재해시는 다음 로그인으로 미룬다
+            log.debug("Skip password rehash for busy hash pool: {}", user.getEmail());
+        }
+    }
+
     @Transactional
     public AuthResponse refreshToken(RefreshTokenRequest request, Long profileId) {
-        if (!tokenService.validateToken(request.getRefreshToken())) {
-            throw new CustomException(ErrorCode.INVALID_TOKEN);
-        }
+        VerifiedToken refreshToken = tokenService.verifyToken(request.getRefreshToken(), TokenType.USER_REFRESH);
 
-        if (!refreshTokenRepository.existsByRefreshToken(request.getRefreshToken())) {
+        if (tokenService.isRevoked(refreshToken)
+            || !refreshTokenStore.isCurrent(refreshToken.getSubject(), request.getRefreshToken())) {
             throw new CustomException(ErrorCode.INVALID_TOKEN);
         }
 
-        String email = tokenService.getEmailFromToken(request.getRefreshToken());
-        if (profileId == null) {
-            User user = userService.getUserByEmail(email);
-            Profile defaultProfile = profileService.getDefaultProfile(user);
-            return tokenService.createAuthResponse(user, defaultProfile);
+        User user = userService.getUserByEmail(refreshToken.getSubject());
+        ProfileResponse profile = profileId == null
+            ? profileService.getDefaultProfile(user)
+            : profileService.getProfile(user, profileId);
+
+        return tokenService.refreshAuthResponse(user, profile, refreshToken, request.getRefreshToken());
+    }
+
+    // 로그아웃: 제시된 토큰을 폐기하고 사용자의 refresh token, 남은 access token 과 프로필 토큰도 모두 거절
+    @Transactional
+    public void logout(String refreshToken, String accessToken) {
+        VerifiedToken verifiedRefreshToken = verifyForRevocation(refreshToken, TokenType.USER_REFRESH);
+        VerifiedToken verifiedAccessToken = verifyForRevocation(accessToken, TokenType.USER_ACCESS);
+        String subject = null;
+        if (verifiedRefreshToken != null) {
+            tokenService.revokeToken(verifiedRefreshToken);
+            subject = verifiedRefreshToken.getSubject();
         }
-        else {
-            return profileService.selectProfile(email, profileId);
+        if (verifiedAccessToken != null) {
+            tokenService.revokeToken(verifiedAccessToken);
+            subject = verifiedAccessToken.getSubject();
         }
-        // User user = userService.getUserByEmail(email);
-        // Profile 
-        // Profile defaultProfile = profileService.getDefaultProfile(user);
-        
-        // return tokenService.createAuthResponse(user, defaultProfile);
-
+        if (subject != null) {
+            tokenService.revokeTokens(subject, profileService.getProfileIds(subject));
+        }
+    }
 
+    // 만료되었거나 위조된 토큰은 폐기할 필요가 없다
+    private VerifiedToken verifyForRevocation(String token, TokenType tokenType) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            return tokenService.verifyToken(token, tokenType);
+        } catch (CustomException e) {
+            return null;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,22 @@
+package com.forrrest.authservice.service;
+
+import org.springframework.http.MediaType;
+
+import com.forrrest.authservice.exception.CustomException;
+import com.forrrest.authservice.exception.ErrorCode;
+
+public enum BulkImportFormat {
+    NDJSON, CSV;
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    public static BulkImportFormat from(MediaType contentType) {
+        if (MediaType.APPLICATION_NDJSON.includes(contentType)) {
+            return NDJSON;
+        }
+        if (MediaType.parseMediaType(TEXT_CSV_VALUE).includes(contentType)) {
+            return CSV;
+        }
+        throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+    }
+}
@@ -0,0 +1,151 @@
+package com.forrrest.authservice.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.forrrest.authservice.dto.request.BulkUserImportRow;
+import com.forrrest.authservice.exception.CustomException;
+import com.forrrest.authservice.exception.ErrorCode;
+
+/**
+ * 일괄 등록 본문을 한 줄씩 읽어 행으로 바꾼다 (본문 전체를 메모리에 올리지 않는다).
+ * CSV 는 첫 줄이 헤더(email, username, password, passwordHash)이고, 큰따옴표로 감싼 값을 지원하지만 값 안의 줄바꿈은 지원하지 않는다.
+ * 형식이 잘못된 줄은 error 를 채운 행으로 돌려주고 다음 줄로 넘어간다.
+ */
+class BulkImportRowReader implements Iterator<BulkImportRowReader.ParsedRow> {
+
+    record ParsedRow(long line, BulkUserImportRow row, String error) {
+    }
+
+    private final BulkImportFormat format;
+    private final BufferedReader reader;
+    private final ObjectReader rowReader;
+    private int[] csvColumns;
+    private long lineNumber;
+    private ParsedRow next;
+
+    BulkImportRowReader(BulkImportFormat format, BufferedReader reader, ObjectMapper objectMapper) {
+        this.format = format;
+        this.reader = reader;
+        this.rowReader = objectMapper.readerFor(BulkUserImportRow.class);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            next = readNext();
+        }
+        return next != null;
+    }
+
+    @Override
+    public ParsedRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        ParsedRow row = next;
+        next = null;
+        return row;
+    }
+
+    private ParsedRow readNext() {
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (format == BulkImportFormat.NDJSON) {
+                    return parseJson(line);
+                }
+                if (csvColumns == null) {
+                    csvColumns = parseHeader(splitCsv(line));
+                    continue;
+                }
+                return parseCsv(line);
+            }
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ParsedRow parseJson(String line) {
+        try {
+            return new ParsedRow(lineNumber, rowReader.readValue(line), null);
+        } catch (JsonProcessingException e) {
+            return new ParsedRow(lineNumber, null, "JSON 형식이 아닙니다.");
+        }
+    }
+
+    private ParsedRow parseCsv(String line) {
+        List<String> values = splitCsv(line);
+        if (values == null) {
+            return new ParsedRow(lineNumber, null, "CSV 형식이 아닙니다.");
+        }
+        String[] fields = new String[4];
+        for (int i = 0; i < fields.length; i++) {
+            int column = csvColumns[i];
+            fields[i] = column >= 0 && column < values.size() && !values.get(column).isEmpty()
+                ? values.get(column) : null;
+        }
+        return new ParsedRow(lineNumber, new BulkUserImportRow(fields[0], fields[1], fields[2], fields[3]), null);
+    }
+
+    // email, username, password, passwordHash 순서의 열 위치 (없으면 -1, email/username 열은 필수)
+    private static int[] parseHeader(List<String> header) {
+        if (header == null) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        List<String> names = header.stream().map(name -> name.trim().toLowerCase(Locale.ROOT)).toList();
+        int[] columns = {
+            names.indexOf("email"), names.indexOf("username"), names.indexOf("password"), names.indexOf("passwordhash")
+        };
+        if (columns[0] < 0 || columns[1] < 0) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        return columns;
+    }
+
+    // 닫히지 않은 따옴표가 있으면 null
+    private static List<String> splitCsv(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        values.add(value.toString());
+        return values;
+    }
+}
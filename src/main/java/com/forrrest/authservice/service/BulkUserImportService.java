@@ -0,0 +1,280 @@
+package com.forrrest.authservice.service;
+
+import java.io.BufferedReader;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.forrrest.authservice.config.BulkImportProperties;
+import com.forrrest.authservice.dto.request.BulkUserImportRow;
+import com.forrrest.authservice.dto.response.BulkImportEvent;
+import com.forrrest.authservice.entity.Profile;
+import com.forrrest.authservice.entity.User;
+import com.forrrest.authservice.exception.ErrorCode;
+import com.forrrest.authservice.exception.ServiceBusyException;
+import com.forrrest.authservice.repository.ProfileRepository;
+import com.forrrest.authservice.repository.UserRepository;
+import com.forrrest.authservice.service.BulkImportRowReader.ParsedRow;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자 일괄 등록.
+ * 본문을 batch-size 행씩 읽어 검증, 중복 확인(배치당 IN 조회 1회), 병렬 해시를 거쳐 사용자와 기본 프로필을
+ * 한 트랜잭션의 JDBC 배치로 저장한다. 이미 BCrypt 로 해시된 passwordHash 행은 해시 없이 그대로 저장한다.
+ * 동시에 하나의 일괄 등록만 실행한다.
+ */
+@Slf4j
+@Service
+public class BulkUserImportService {
+
+    private static final long BUSY_RETRY_AFTER_SECONDS = 60;
+    private static final String BCRYPT_PREFIX = "{bcrypt}";
+
+    private final UserRepository userRepository;
+    private final ProfileRepository profileRepository;
+    private final EmailExistenceFilter emailExistenceFilter;
+    private final PasswordEncoder passwordEncoder;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final BulkImportProperties properties;
+    private final ExecutorService hashExecutor;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final Counter importedCounter;
+    private final Counter failedCounter;
+    private final Timer batchTimer;
+
+    public BulkUserImportService(UserRepository userRepository, ProfileRepository profileRepository,
+        EmailExistenceFilter emailExistenceFilter, PasswordEncoder passwordEncoder, Validator validator,
+        ObjectMapper objectMapper, PlatformTransactionManager transactionManager, BulkImportProperties properties,
+        MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.profileRepository = profileRepository;
+        this.emailExistenceFilter = emailExistenceFilter;
+        this.passwordEncoder = passwordEncoder;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+
+        int poolSize = properties.getHashPoolSize() > 0
+            ? properties.getHashPoolSize()
+            : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        // 대기 작업은 배치 하나의 행 수로 제한된다
+        this.hashExecutor = Executors.newFixedThreadPool(poolSize, new CustomizableThreadFactory("bulk-import-hash-"));
+
+        this.importedCounter = Counter.builder("auth.import.rows")
+            .tag("outcome", "imported")
+            .register(meterRegistry);
+        this.failedCounter = Counter.builder("auth.import.rows")
+            .tag("outcome", "failed")
+            .register(meterRegistry);
+        this.batchTimer = Timer.builder("auth.import.batch")
+            .register(meterRegistry);
+    }
+
+    // 행 오류와 배치마다의 진행 상황을 listener 로 보내고 요약을 반환한다
+    public BulkImportEvent importUsers(BulkImportFormat format, Reader body, Consumer<BulkImportEvent> listener) {
+        if (!running.compareAndSet(false, true)) {
+            throw new ServiceBusyException(BUSY_RETRY_AFTER_SECONDS);
+        }
+        try {
+            Progress progress = new Progress(listener);
+            BulkImportRowReader rows = new BulkImportRowReader(format, new BufferedReader(body), objectMapper);
+            List<ParsedRow> batch = new ArrayList<>(properties.getBatchSize());
+            while (rows.hasNext()) {
+                batch.add(rows.next());
+                if (batch.size() == properties.getBatchSize()) {
+                    importBatch(batch, progress);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                importBatch(batch, progress);
+            }
+
+            BulkImportEvent summary = progress.event(BulkImportEvent.Type.SUMMARY);
+            log.info("Bulk user import finished: processed={}, imported={}, failed={}, elapsedMillis={}",
+                summary.getProcessed(), summary.getImported(), summary.getFailed(), summary.getElapsedMillis());
+            return summary;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void importBatch(List<ParsedRow> batch, Progress progress) {
+        batchTimer.record(() -> {
+            List<ParsedRow> candidates = new ArrayList<>(batch.size());
+            Set<String> batchEmails = new HashSet<>();
+            for (ParsedRow parsed : batch) {
+                String error = parsed.error() != null ? parsed.error() : validate(parsed.row());
+                if (error != null) {
+                    progress.fail(parsed, ErrorCode.INVALID_INPUT_VALUE, error);
+                } else if (!batchEmails.add(key(parsed.row().getEmail()))) {
+                    progress.fail(parsed, ErrorCode.EMAIL_DUPLICATION, null);
+                } else {
+                    candidates.add(parsed);
+                }
+            }
+
+            Set<String> existing = existingEmails(candidates);
+            List<ParsedRow> newRows = new ArrayList<>(candidates.size());
+            for (ParsedRow parsed : candidates) {
+                if (existing.contains(key(parsed.row().getEmail()))) {
+                    progress.fail(parsed, ErrorCode.EMAIL_DUPLICATION, null);
+                } else {
+                    newRows.add(parsed);
+                }
+            }
+
+            List<User> users = hash(newRows);
+            try {
+                save(users);
+                progress.imported(users.size());
+            } catch (DataIntegrityViolationException e) {
+                // 확인 이후 다른 요청이 같은 email 로 가입했다: 행 단위로 다시 저장해 해당 행만 실패 처리
+                // (롤백된 엔티티에는 id 가 남아 있으므로 새로 만든다)
+                for (int i = 0; i < users.size(); i++) {
+                    User user = users.get(i);
+                    try {
+                        save(List.of(User.builder()
+                            .email(user.getEmail())
+                            .username(user.getUsername())
+                            .password(user.getPassword())
+                            .build()));
+                        progress.imported(1);
+                    } catch (DataIntegrityViolationException rowException) {
+                        progress.fail(newRows.get(i), ErrorCode.EMAIL_DUPLICATION, null);
+                    }
+                }
+            }
+            progress.processed(batch.size());
+        });
+    }
+
+    private String validate(BulkUserImportRow row) {
+        Set<ConstraintViolation<BulkUserImportRow>> violations = validator.validate(row);
+        return violations.isEmpty() ? null : violations.iterator().next().getMessage();
+    }
+
+    // Bloom filter 가 "없음" 으로 판정한 email 은 조회에서 뺀다
+    private Set<String> existingEmails(List<ParsedRow> rows) {
+        List<String> maybeExisting = rows.stream()
+            .map(parsed -> parsed.row().getEmail())
+            .filter(emailExistenceFilter::mightExist)
+            .toList();
+        if (maybeExisting.isEmpty()) {
+            return Set.of();
+        }
+        return userRepository.findEmailsIn(maybeExisting).stream()
+            .map(BulkUserImportService::key)
+            .collect(Collectors.toSet());
+    }
+
+    private List<User> hash(List<ParsedRow> rows) {
+        List<CompletableFuture<User>> users = rows.stream()
+            .map(ParsedRow::row)
+            .map(row -> row.getPasswordHash() != null
+                ? CompletableFuture.completedFuture(toUser(row, storedHash(row.getPasswordHash())))
+                : CompletableFuture.supplyAsync(() -> toUser(row, passwordEncoder.encode(row.getPassword())), hashExecutor))
+            .toList();
+        return users.stream().map(CompletableFuture::join).toList();
+    }
+
+    private void save(List<User> users) {
+        transactionTemplate.executeWithoutResult(status -> {
+            userRepository.saveAll(users);
+            profileRepository.saveAll(users.stream()
+                .map(user -> Profile.builder()
+                    .user(user)
+                    .name(ProfileService.DEFAULT_PROFILE_NAME)
+                    .isDefault(true)
+                    .build())
+                .toList());
+        });
+        users.forEach(user -> emailExistenceFilter.put(user.getEmail()));
+    }
+
+    private static User toUser(BulkUserImportRow row, String encodedPassword) {
+        return User.builder()
+            .email(row.getEmail())
+            .username(row.getUsername())
+            .password(encodedPassword)
+            .build();
+    }
+
+    // 새로 만든 해시와 같은 {bcrypt} 접두사 형식으로 저장
+    private static String storedHash(String passwordHash) {
+        return passwordHash.startsWith(BCRYPT_PREFIX) ? passwordHash : BCRYPT_PREFIX + passwordHash;
+    }
+
+    // MySQL 기본 collation 은 email unique 인덱스에서 대소문자를 구분하지 않는다
+    private static String key(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        hashExecutor.shutdown();
+        hashExecutor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    private class Progress {
+        private final Consumer<BulkImportEvent> listener;
+        private final long startedAt = System.nanoTime();
+        private long processed;
+        private long imported;
+        private long failed;
+
+        private Progress(Consumer<BulkImportEvent> listener) {
+            this.listener = listener;
+        }
+
+        private void fail(ParsedRow parsed, ErrorCode errorCode, String message) {
+            failed++;
+            failedCounter.increment();
+            listener.accept(BulkImportEvent.error(parsed.line(),
+                parsed.row() != null ? parsed.row().getEmail() : null, errorCode, message));
+        }
+
+        private void imported(int count) {
+            imported += count;
+            importedCounter.increment(count);
+        }
+
+        private void processed(int count) {
+            processed += count;
+            listener.accept(event(BulkImportEvent.Type.PROGRESS));
+        }
+
+        private BulkImportEvent event(BulkImportEvent.Type type) {
+            return BulkImportEvent.progress(type, processed, imported, failed,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.forrrest.authservice.service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.regex.Pattern;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.forrrest.authservice.config.EmailFilterProperties;
+import com.forrrest.authservice.repository.UserRepository;
+import com.forrrest.authservice.repository.projection.UserEmailView;
+import com.forrrest.authservice.utils.bloom.BloomFilter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가입된 이메일에 대한 Bloom filter.
+ * 가입/가져오기의 중복 확인에서만 "없음" 판정이면 DB 조회를 건너뛰고, 로딩 전이거나 비활성화 상태이면 항상 DB 로 위임한다.
+ * 다른 인스턴스의 가입은 sync-interval 이 지나야 반영되므로 로그인처럼 "없음"을 그대로 믿으면 안 되는 경로에는 쓰지 않는다
+ * (놓친 중복 가입은 email unique 키가 막는다).
+ */
+@Slf4j
+@Component
+public class EmailExistenceFilter {
+
+    // 스냅샷 파일 형식 (동기화 기준이 사용자 id 에서 가입 시각으로 바뀌어 이전 형식은 버린다)
+    private static final int SNAPSHOT_VERSION = 2;
+    private static final LocalDateTime SYNC_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    // NFKD 로 분해되지 않지만 utf8mb4_0900_ai_ci 에서 라틴 문자와 같게 비교되는 문자 (소문자 변환 후 기준)
+    private static final Map<Character, String> FOLDS = Map.ofEntries(
+        Map.entry('ß', "ss"), Map.entry('æ', "ae"), Map.entry('œ', "oe"), Map.entry('ø', "o"),
+        Map.entry('đ', "d"), Map.entry('ð', "d"), Map.entry('ł', "l"), Map.entry('ı', "i"),
+        Map.entry('þ', "th"), Map.entry('ħ', "h"), Map.entry('ŧ', "t"));
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TaskScheduler taskScheduler;
+    private final EmailFilterProperties properties;
+    private final Counter shortCircuitCounter;
+
+    private volatile BloomFilter filter;
+    private volatile boolean ready;
+    private volatile LocalDateTime syncedUntil = SYNC_START;
+    private ScheduledFuture<?> syncTask;
+
+    public EmailExistenceFilter(UserRepository userRepository, PlatformTransactionManager transactionManager,
+        TaskScheduler taskScheduler, EmailFilterProperties properties, MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.taskScheduler = taskScheduler;
+        this.properties = properties;
+        this.filter = BloomFilter.create(properties.getExpectedInsertions(), properties.getFalsePositiveRate());
+
+        Gauge.builder("auth.email.filter.false.positive.rate", this, f -> f.filter.expectedFalsePositiveRate())
+            .register(meterRegistry);
+        Gauge.builder("auth.email.filter.memory", this, f -> f.filter.memoryBytes())
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        Gauge.builder("auth.email.filter.insertions", this, f -> f.filter.insertions())
+            .register(meterRegistry);
+        this.shortCircuitCounter = Counter.builder("auth.email.filter.short.circuit")
+            .register(meterRegistry);
+    }
+
+    public boolean mightExist(String email) {
+        if (!ready || filter.mightContain(normalize(email))) {
+            return true;
+        }
+        shortCircuitCounter.increment();
+        return false;
+    }
+
+    public void put(String email) {
+        filter.put(normalize(email));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        boolean restored = loadSnapshot();
+        try {
+            sync();
+        } catch (RuntimeException e) {
+            // 로딩에 실패하면 필터 없이 항상 DB 로 조회한다
+            log.warn("Email filter disabled: initial load failed: {}", e.getMessage());
+            return;
+        }
+        ready = true;
+        saveSnapshot();
+        log.info("Email filter ready: restored={}, syncedUntil={}, took={}ms",
+            restored, syncedUntil, System.currentTimeMillis() - startedAt);
+
+        syncTask = taskScheduler.scheduleWithFixedDelay(this::sync, properties.getSyncInterval());
+    }
+
+    // users 테이블을 가입 시각 순 페이지로 읽으며 마지막 동기화 이후 가입자를 반영 (페이지마다 트랜잭션을 끊는다)
+    // id 는 인스턴스별 블록에서 받으므로 다른 인스턴스가 이미 읽은 id 보다 작은 id 로 가입시킬 수 있다
+    private void sync() {
+        LocalDateTime createdAfter = syncedUntil.minus(properties.getSyncOverlap());
+        long afterId = 0;
+        LocalDateTime lastCreatedAt = syncedUntil;
+        while (true) {
+            LocalDateTime cursorCreatedAt = createdAfter;
+            long cursorId = afterId;
+            List<UserEmailView> rows = readOnlyTransaction.execute(status -> userRepository.findEmailsCreatedAfter(
+                cursorCreatedAt, cursorId, PageRequest.of(0, properties.getSyncPageSize())));
+            for (UserEmailView row : rows) {
+                filter.put(normalize(row.getEmail()));
+            }
+            if (!rows.isEmpty()) {
+                UserEmailView last = rows.get(rows.size() - 1);
+                createdAfter = last.getCreatedAt();
+                afterId = last.getId();
+                if (createdAfter.isAfter(lastCreatedAt)) {
+                    lastCreatedAt = createdAfter;
+                }
+            }
+            if (rows.size() < properties.getSyncPageSize()) {
+                break;
+            }
+        }
+        syncedUntil = lastCreatedAt;
+    }
+
+    private boolean loadSnapshot() {
+        Path path = snapshotPath();
+        if (path == null || !Files.exists(path)) {
+            return false;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != SNAPSHOT_VERSION) {
+                log.info("Email filter snapshot ignored: format changed");
+                return false;
+            }
+            LocalDateTime snapshotSyncedUntil = LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+            BloomFilter snapshot = BloomFilter.readFrom(in);
+            if (!snapshot.isCompatible(filter)) {
+                log.info("Email filter snapshot ignored: sizing changed");
+                return false;
+            }
+            filter = snapshot;
+            syncedUntil = snapshotSyncedUntil;
+            return true;
+        } catch (IOException e) {
+            log.warn("Email filter snapshot could not be read: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void saveSnapshot() {
+        Path path = snapshotPath();
+        if (path == null) {
+            return;
+        }
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(SNAPSHOT_VERSION);
+                out.writeLong(syncedUntil.toEpochSecond(ZoneOffset.UTC));
+                out.writeInt(syncedUntil.getNano());
+                filter.writeTo(out);
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Email filter snapshot could not be written: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (syncTask != null) {
+            syncTask.cancel(false);
+        }
+        if (ready) {
+            saveSnapshot();
+        }
+    }
+
+    private Path snapshotPath() {
+        String snapshotPath = properties.getSnapshotPath();
+        return snapshotPath == null || snapshotPath.isBlank() ? null : Path.of(snapshotPath);
+    }
+
+    // MySQL 기본 collation(utf8mb4_0900_ai_ci) 과 같이 대소문자/악센트를 구분하지 않도록 정규화
+    // collation 이 같다고 보는 두 값은 반드시 같은 키가 되어야 하므로 ß, æ 처럼 분해되지 않는 문자도 풀어 쓴다
+    // (더 많이 합치는 것은 오탐만 늘 뿐 미가입 오판은 만들지 않는다)
+    static String normalize(String email) {
+        String stripped = email.strip();
+        for (int i = 0; i < stripped.length(); i++) {
+            if (stripped.charAt(i) > 0x7F) {
+                String decomposed = Normalizer.normalize(stripped, Normalizer.Form.NFKD);
+                return fold(COMBINING_MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT));
+            }
+        }
+        return stripped.toLowerCase(Locale.ROOT);
+    }
+
+    private static String fold(String value) {
+        StringBuilder folded = null;
+        for (int i = 0; i < value.length(); i++) {
+            String replacement = FOLDS.get(value.charAt(i));
+            if (replacement != null && folded == null) {
+                folded = new StringBuilder(value.length() + 4).append(value, 0, i);
+            }
+            if (folded != null) {
+                folded.append(replacement != null ? replacement : String.valueOf(value.charAt(i)));
+            }
+        }
+        return folded == null ? value : folded.toString();
+    }
+}
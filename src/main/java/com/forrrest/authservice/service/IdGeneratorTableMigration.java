@@ -0,0 +1,28 @@
+package com.forrrest.authservice.service;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.forrrest.authservice.entity.id.IdBlockAllocator;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * IdBlockAllocator 가 블록을 받아 가는 id_generator 테이블을 만든다.
+ * 엔티티가 아니라 ddl-auto 가 만들지 않으므로, 웹 서버가 요청을 받기 전(첫 INSERT 전)에 생성한다.
+ */
+@Component
+public class IdGeneratorTableMigration {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public IdGeneratorTableMigration(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void migrate() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + IdBlockAllocator.TABLE
+            + " (name VARCHAR(64) NOT NULL PRIMARY KEY, next_val BIGINT NOT NULL)");
+    }
+}
@@ -0,0 +1,135 @@
+package com.forrrest.authservice.service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import com.forrrest.authservice.config.PasswordHashProperties;
+import com.forrrest.authservice.exception.CustomException;
+import com.forrrest.authservice.exception.ErrorCode;
+import com.forrrest.authservice.exception.ServiceBusyException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비밀번호 해시/검증 전용 실행기.
+ * BCrypt 연산을 코어 수 만큼의 스레드로 제한하고, 대기열이 가득 차면 503 으로 즉시 거절한다.
+ */
+@Slf4j
+@Service
+public class PasswordHashService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashProperties properties;
+    private final ThreadPoolExecutor executor;
+
+    private final Timer waitTimer;
+    private final Meter.MeterProvider<Timer> hashTimers;
+    private final Counter rejectedCounter;
+
+    public PasswordHashService(PasswordEncoder passwordEncoder, PasswordHashProperties properties,
+        MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.properties = properties;
+
+        int poolSize = properties.getPoolSize() > 0
+            ? properties.getPoolSize()
+            : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(
+            poolSize, poolSize,
+            0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+            new CustomizableThreadFactory("password-hash-"),
+            new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("auth.password.hash.queue.size", executor, e -> e.getQueue().size())
+            .register(meterRegistry);
+        Gauge.builder("auth.password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+            .register(meterRegistry);
+        this.waitTimer = Timer.builder("auth.password.hash.wait")
+            .register(meterRegistry);
+        // operation: verify | encode, outcome: match | mismatch | success | error
+        this.hashTimers = Timer.builder("auth.password.hash.duration")
+            .withRegistry(meterRegistry);
+        this.rejectedCounter = Counter.builder("auth.password.hash.rejected")
+            .register(meterRegistry);
+
+        log.info("Password hash pool initialized: poolSize={}, queueCapacity={}",
+            poolSize, properties.getQueueCapacity());
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return submit("verify", () -> passwordEncoder.matches(rawPassword, encodedPassword),
+            matched -> matched ? "match" : "mismatch");
+    }
+
+    public String encode(String rawPassword) {
+        return submit("encode", () -> passwordEncoder.encode(rawPassword), encoded -> "success");
+    }
+
+    // cost 가 목표보다 낮거나 알고리즘 접두사가 없는 해시는 재해시 대상
+    public boolean upgradeEncoding(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T submit(String operation, Callable<T> task, Function<T, String> outcome) {
+        long enqueuedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                waitTimer.record(startedAt - enqueuedAt, TimeUnit.NANOSECONDS);
+                String result = "error";
+                try {
+                    T value = task.call();
+                    result = outcome.apply(value);
+                    return value;
+                } finally {
+                    hashTimers.withTags("operation", operation, "outcome", result)
+                        .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new ServiceBusyException(properties.getRetryAfterSeconds());
+        }
+
+        try {
+            return future.get(properties.getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new ServiceBusyException(properties.getRetryAfterSeconds());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,105 @@
+package com.forrrest.authservice.service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.forrrest.authservice.config.ProfileCacheProperties;
+import com.forrrest.authservice.dto.response.ProfileResponse;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 사용자 이메일별 프로필 목록 캐시.
+ * 첫 조회 시 채우고, 프로필을 변경한 트랜잭션이 커밋된 뒤 해당 사용자 항목을 비운다.
+ */
+@Component
+public class ProfileCache {
+
+    private final ProfileCacheProperties properties;
+    private final AsyncCache<String, List<ProfileResponse>> cache;
+
+    public ProfileCache(ProfileCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(properties.getMaximumSize())
+            .expireAfterWrite(properties.getTtl())
+            .recordStats()
+            .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "profiles");
+    }
+
+    // 조회는 맵 잠금(compute) 밖에서 호출 스레드의 트랜잭션으로 하고, 동시에 들어온 요청은 같은 결과를 기다린다
+    // (잠금 안에서 JDBC 를 기다리면 가상 스레드가 캐리어 스레드를 점유한다)
+    public List<ProfileResponse> get(String email, Supplier<List<ProfileResponse>> loader) {
+        if (!properties.isEnabled()) {
+            return loader.get();
+        }
+        CompletableFuture<List<ProfileResponse>> cached = cache.getIfPresent(email);
+        if (cached != null) {
+            return join(cached);
+        }
+        CompletableFuture<List<ProfileResponse>> loading = new CompletableFuture<>();
+        CompletableFuture<List<ProfileResponse>> existing = cache.asMap().putIfAbsent(email, loading);
+        if (existing != null) {
+            return join(existing);
+        }
+        try {
+            List<ProfileResponse> profiles = List.copyOf(loader.get());
+            loading.complete(profiles);
+            return profiles;
+        } catch (Throwable e) {
+            // Error 도 future 를 끝내야 기다리는 요청이 멈추지 않는다 (실패한 항목은 캐시에서 제거된다)
+            loading.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    // 없거나 아직 조회 중이면 null, 목록 전체가 필요하지 않은 조회는 캐시를 채우지 않는다
+    public List<ProfileResponse> getIfPresent(String email) {
+        if (!properties.isEnabled()) {
+            return null;
+        }
+        CompletableFuture<List<ProfileResponse>> cached = cache.getIfPresent(email);
+        if (cached == null || !cached.isDone() || cached.isCompletedExceptionally()) {
+            return null;
+        }
+        return cached.join();
+    }
+
+    private static List<ProfileResponse> join(CompletableFuture<List<ProfileResponse>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // 커밋 전에 비우면 그 사이 다른 요청이 이전 목록을 다시 채울 수 있다
+    public void evictAfterCommit(String email) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.synchronous().invalidate(email);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.synchronous().invalidate(email);
+            }
+        });
+    }
+}
@@ -1,13 +1,18 @@
 package com.forrrest.authservice.service;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.forrrest.authservice.config.ProfilePageProperties;
 import com.forrrest.authservice.dto.request.ProfileRequest;
 import com.forrrest.authservice.dto.response.AuthResponse;
+import com.forrrest.authservice.dto.response.ProfilePageResponse;
 import com.forrrest.authservice.dto.response.ProfileResponse;
 import com.forrrest.authservice.entity.Profile;
 import com.forrrest.authservice.entity.User;
@@ -22,23 +27,35 @@ import lombok.RequiredArgsConstructor;
 @Transactional(readOnly = true)
 public class ProfileService {
 
+    public static final String DEFAULT_PROFILE_NAME = "Default Profile";
+
     private final ProfileRepository profileRepository;
     private final UserService userService;
     private final TokenService tokenService;
+    private final ProfileCache profileCache;
+    private final ProfilePageProperties pageProperties;
 
     @Transactional
     public Profile createDefaultProfile(User user) {
-        return profileRepository.save(Profile.builder()
+        Profile profile = profileRepository.save(Profile.builder()
             .user(user)
-            .name("Default Profile")
+            .name(DEFAULT_PROFILE_NAME)
             .isDefault(true)
             .build());
+        profileCache.evictAfterCommit(user.getEmail());
+        return profile;
     }
 
-    public Profile getDefaultProfile(User user) {
-        return profileRepository.findAllByUser(user).stream()
-            .filter(Profile::isDefault)
-            .findFirst()
+    // 캐시된 목록이 없으면 (user_id, is_default) 인덱스로 기본 프로필만 조회
+    public ProfileResponse getDefaultProfile(User user) {
+        List<ProfileResponse> cached = profileCache.getIfPresent(user.getEmail());
+        if (cached != null) {
+            return cached.stream()
+                .filter(ProfileResponse::isDefault)
+                .findFirst()
+                .orElseThrow(() -> new CustomException(ErrorCode.PROFILE_NOT_FOUND));
+        }
+        return profileRepository.findDefaultResponseByUser(user)
             .orElseThrow(() -> new CustomException(ErrorCode.PROFILE_NOT_FOUND));
     }
 
@@ -55,45 +72,123 @@ public class ProfileService {
             .name(request.getName())
             .isDefault(false)
             .build());
+        profileCache.evictAfterCommit(email);
 
         return ProfileResponse.from(profile);
     }
 
-    public List<ProfileResponse> getProfiles(String email) {
-        User user = userService.getUserByEmail(email);
-        return profileRepository.findAllByUser(user).stream()
-            .map(ProfileResponse::from)
-            .collect(Collectors.toList());
+    // id keyset 페이지, 캐시된 목록이 있으면 그 안에서 자르고 없으면 한 페이지만 조회 (캐시를 채우지 않는다)
+    public ProfilePageResponse getProfiles(String email, String cursor, Integer size) {
+        long afterId = decodeCursor(cursor);
+        int pageSize = pageSize(size);
+
+        List<ProfileResponse> cached = profileCache.getIfPresent(email);
+        List<ProfileResponse> rows = cached != null
+            ? cached.stream()
+                .filter(profile -> profile.getId() > afterId)
+                .sorted(Comparator.comparing(ProfileResponse::getId))
+                .limit(pageSize + 1)
+                .toList()
+            : findPage(email, afterId, pageSize + 1);
+
+        // 한 행을 더 읽어 다음 페이지가 있는지 판단한다
+        if (rows.size() <= pageSize) {
+            return ProfilePageResponse.builder()
+                .profiles(rows)
+                .build();
+        }
+        List<ProfileResponse> page = rows.subList(0, pageSize);
+        return ProfilePageResponse.builder()
+            .profiles(page)
+            .nextCursor(encodeCursor(page.get(pageSize - 1).getId()))
+            .build();
+    }
+
+    // 사용자 id 는 2차 캐시에서 구하고(없는 사용자는 USER_NOT_FOUND), ix_profile_user_id_id 만 읽어 id 를 고른 뒤
+    // 이름/시각 컬럼은 인덱스에 없으므로 고른 id 의 행만 PK 로 읽는다
+    private List<ProfileResponse> findPage(String email, long afterId, int limit) {
+        Long userId = userService.getUserByEmail(email).getId();
+        List<Long> ids = profileRepository.findIdsByUserIdAfter(userId, afterId, PageRequest.of(0, limit));
+        return ids.isEmpty() ? List.of() : profileRepository.findResponsesByIdIn(ids);
     }
 
     public ProfileResponse getProfile(String email, Long profileId) {
-        User user = userService.getUserByEmail(email);
-        Profile profile = profileRepository.findByIdAndUser(profileId, user)
-            .orElseThrow(() -> new CustomException(ErrorCode.PROFILE_NOT_FOUND));
-        return ProfileResponse.from(profile);
+        return findByEmail(email, profileId);
     }
 
     @Transactional
     public void deleteProfile(String email, Long profileId) {
-        User user = userService.getUserByEmail(email);
-        Profile profile = profileRepository.findByIdAndUser(profileId, user)
-            .orElseThrow(() -> new CustomException(ErrorCode.PROFILE_NOT_FOUND));
+        Profile profile = profileRepository.findByIdAndUserEmail(profileId, email)
+            .orElseThrow(() -> profileNotFound(email));
 
         if (profile.isDefault()) {
             throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
         }
 
         profileRepository.delete(profile);
+        profileCache.evictAfterCommit(email);
     }
 
+    // 프로필과 사용자를 한 번에 조회 (토큰 클레임에 최신 사용자 정보가 필요하므로 캐시를 쓰지 않는다)
     @Transactional
     public AuthResponse selectProfile(String email, Long profileId) {
-        User user = userService.getUserByEmail(email);
-        Profile profile = profileRepository.findByIdAndUser(profileId, user)
-            .orElseThrow(() -> new CustomException(ErrorCode.PROFILE_NOT_FOUND));
+        Profile profile = profileRepository.findWithUserByIdAndUserEmail(profileId, email)
+            .orElseThrow(() -> profileNotFound(email));
+
+        return tokenService.createAuthResponse(profile.getUser(), ProfileResponse.from(profile));
+    }
+
+    public ProfileResponse getProfile(User user, Long profileId) {
+        return findByEmail(user.getEmail(), profileId);
+    }
+
+    private ProfileResponse findByEmail(String email, Long profileId) {
+        return findAllByEmail(email).stream()
+            .filter(profile -> profile.getId().equals(profileId))
+            .findFirst()
+            .orElseThrow(() -> profileNotFound(email));
+    }
+
+    // 이메일 조건으로 한 번에 조회하므로, 못 찾았을 때만 사용자를 확인해 없는 사용자는 USER_NOT_FOUND 로 구분한다
+    private CustomException profileNotFound(String email) {
+        userService.getUserByEmail(email);
+        return new CustomException(ErrorCode.PROFILE_NOT_FOUND);
+    }
+
+    private int pageSize(Integer size) {
+        if (size == null) {
+            return pageProperties.getDefaultSize();
+        }
+        if (size < 1) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        return Math.min(size, pageProperties.getMaxSize());
+    }
 
-        return tokenService.createAuthResponse(user, profile);
+    private static String encodeCursor(long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(Long.toString(lastId).getBytes(StandardCharsets.US_ASCII));
     }
 
+    private static long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII));
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+
+    // 토큰 폐기 대상 프로필 (프로필 토큰의 subject)
+    public List<Long> getProfileIds(String email) {
+        return findAllByEmail(email).stream()
+            .map(ProfileResponse::getId)
+            .toList();
+    }
 
-}
\ No newline at end of file
+    private List<ProfileResponse> findAllByEmail(String email) {
+        return profileCache.get(email, () -> profileRepository.findResponsesByUserEmail(email));
+    }
+}
@@ -0,0 +1,43 @@
+package com.forrrest.authservice.service;
+
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.forrrest.authservice.entity.RefreshToken;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * jti 가 붙은 refresh token 은 255자를 넘는데, ddl-auto update 는 기존 varchar 컬럼을 늘리지 않는다.
+ * 스키마 갱신(entityManagerFactory) 직후, 웹 서버가 요청을 받기 전에 refresh_token 컬럼을 엔티티 길이로 늘린다.
+ * 길이 바이트 수가 그대로(utf8mb4 255자 이상은 이미 2바이트)라 MySQL 은 테이블을 복사하지 않고 메타데이터만 바꾼다.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+public class RefreshTokenColumnMigration {
+
+    private static final String COLUMN_LENGTH_SQL = """
+        SELECT character_maximum_length FROM information_schema.columns
+        WHERE table_schema = SCHEMA() AND table_name = 'refresh_tokens' AND column_name = 'refresh_token'
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RefreshTokenColumnMigration(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void migrate() {
+        Long length = jdbcTemplate.query(COLUMN_LENGTH_SQL, rs -> rs.next() ? rs.getLong(1) : null);
+        if (length == null || length >= RefreshToken.TOKEN_MAX_LENGTH) {
+            return;
+        }
+        jdbcTemplate.execute("ALTER TABLE refresh_tokens MODIFY refresh_token VARCHAR("
+            + RefreshToken.TOKEN_MAX_LENGTH + ") NOT NULL");
+        log.info("refresh_tokens.refresh_token widened: {} -> {}", length, RefreshToken.TOKEN_MAX_LENGTH);
+    }
+}
@@ -0,0 +1,53 @@
+package com.forrrest.authservice.service;
+
+import java.util.List;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.forrrest.authservice.entity.RefreshToken;
+import com.forrrest.authservice.repository.RefreshTokenRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * token_digest 컬럼 추가 이전에 저장된 refresh token 행에 다이제스트를 채운다.
+ * 채워진 행은 조회 조건에서 빠지므로 offset 없이 같은 쿼리를 반복한다.
+ */
+@Slf4j
+@Component
+public class RefreshTokenDigestBackfill {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public RefreshTokenDigestBackfill(RefreshTokenRepository refreshTokenRepository,
+        PlatformTransactionManager transactionManager) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        long total = 0;
+        int updated;
+        do {
+            updated = transactionTemplate.execute(status -> {
+                List<RefreshToken> tokens = refreshTokenRepository.findWithoutTokenDigest(PageRequest.of(0, BATCH_SIZE));
+                tokens.forEach(RefreshToken::backfillTokenDigest);
+                return tokens.size();
+            });
+            total += updated;
+        } while (updated == BATCH_SIZE);
+
+        if (total > 0) {
+            log.info("Refresh token digest backfilled: rows={}", total);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.forrrest.authservice.service;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.forrrest.authservice.repository.RefreshTokenRepository;
+import com.forrrest.authservice.repository.projection.RefreshTokenIssuedView;
+import com.forrrest.common.security.config.TokenProperties;
+import com.forrrest.common.security.token.TokenType;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이전 버전은 refresh token 의 expiry_date 에 저장 시각을 넣었으므로, 만료 행 삭제가 그 행들을 지우기 전에
+ * 실제 만료 시각(저장 시각 + refresh token 유효기간)으로 채운다.
+ * 채워진 행은 조회 조건에서 빠지므로 offset 없이 같은 쿼리를 반복한다.
+ */
+@Slf4j
+@Component
+public class RefreshTokenExpiryBackfill {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TokenProperties tokenProperties;
+    private volatile boolean completed;
+
+    public RefreshTokenExpiryBackfill(RefreshTokenRepository refreshTokenRepository,
+        PlatformTransactionManager transactionManager, TokenProperties tokenProperties) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.tokenProperties = tokenProperties;
+    }
+
+    // 끝날 때까지는 호출할 때마다 이어서 채우고, 실패하면 예외를 그대로 던져 호출 측이 삭제를 건너뛰게 한다
+    public void backfill() {
+        if (completed) {
+            return;
+        }
+        Duration validity = Duration.ofMillis(tokenProperties.getValidity().get(TokenType.USER_REFRESH));
+        long total = 0;
+        int updated;
+        do {
+            updated = transactionTemplate.execute(status -> {
+                List<RefreshTokenIssuedView> rows =
+                    refreshTokenRepository.findWithLegacyExpiryDate(PageRequest.of(0, BATCH_SIZE));
+                rows.forEach(row ->
+                    refreshTokenRepository.updateExpiryDate(row.getEmail(), row.getUpdatedAt().plus(validity)));
+                return rows.size();
+            });
+            total += updated;
+        } while (updated == BATCH_SIZE);
+        completed = true;
+
+        if (total > 0) {
+            log.info("Refresh token expiry date backfilled: rows={}", total);
+        }
+    }
+}
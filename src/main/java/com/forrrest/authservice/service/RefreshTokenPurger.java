@@ -0,0 +1,145 @@
+package com.forrrest.authservice.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.forrrest.authservice.config.RefreshTokenPurgeProperties;
+import com.forrrest.authservice.repository.RefreshTokenRepository;
+import com.forrrest.authservice.repository.projection.RefreshTokenExpiryView;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 만료된 refresh token 행을 주기적으로 삭제한다.
+ * (expiry_date, email) 순으로 작은 청크를 조회해 PK 로 지우고, 청크마다 트랜잭션을 끊고 잠시 쉰다.
+ * 청크 사이 대기가 공용 TaskScheduler 의 작업(refresh token flush 등)을 막지 않도록 전용 스레드에서 실행한다.
+ * 이전 버전 행의 만료일을 채우기 전에는 아무것도 지우지 않는다 ({@link RefreshTokenExpiryBackfill}).
+ */
+@Slf4j
+@Component
+public class RefreshTokenPurger {
+
+    private static final LocalDateTime MIN_EXPIRY_DATE = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenExpiryBackfill refreshTokenExpiryBackfill;
+    private final TransactionTemplate transactionTemplate;
+    private final ScheduledExecutorService purgeExecutor;
+    private final RefreshTokenPurgeProperties properties;
+    private final Counter purgedCounter;
+    private final Timer chunkTimer;
+    private final AtomicLong backlog = new AtomicLong();
+    private ScheduledFuture<?> purgeTask;
+    private volatile boolean stopped;
+
+    public RefreshTokenPurger(RefreshTokenRepository refreshTokenRepository,
+        RefreshTokenExpiryBackfill refreshTokenExpiryBackfill, PlatformTransactionManager transactionManager,
+        RefreshTokenPurgeProperties properties, MeterRegistry meterRegistry) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.refreshTokenExpiryBackfill = refreshTokenExpiryBackfill;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.purgeExecutor = Executors.newSingleThreadScheduledExecutor(
+            new CustomizableThreadFactory("refresh-token-purge-"));
+        this.properties = properties;
+
+        this.purgedCounter = Counter.builder("auth.refresh.token.purged")
+            .register(meterRegistry);
+        this.chunkTimer = Timer.builder("auth.refresh.token.purge.chunk")
+            .register(meterRegistry);
+        Gauge.builder("auth.refresh.token.purge.backlog", backlog, AtomicLong::get)
+            .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (properties.isEnabled()) {
+            purgeTask = purgeExecutor.scheduleWithFixedDelay(this::runPurge,
+                0, properties.getInterval().toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // 예외가 나가면 ScheduledExecutorService 가 이후 실행을 멈추므로 여기서 기록하고 다음 주기에 다시 시도
+    private void runPurge() {
+        try {
+            purge();
+        } catch (RuntimeException e) {
+            log.error("Refresh token purge failed", e);
+        }
+    }
+
+    public long purge() {
+        refreshTokenExpiryBackfill.backfill();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime afterExpiryDate = MIN_EXPIRY_DATE;
+        String afterEmail = "";
+        long total = 0;
+
+        for (int chunk = 0; chunk < properties.getMaxChunksPerRun() && !stopped; chunk++) {
+            List<RefreshTokenExpiryView> rows = refreshTokenRepository.findExpiredAfter(
+                now, afterExpiryDate, afterEmail, PageRequest.of(0, properties.getChunkSize()));
+            if (rows.isEmpty()) {
+                break;
+            }
+
+            List<String> emails = rows.stream().map(RefreshTokenExpiryView::getEmail).toList();
+            int deleted = chunkTimer.record(() ->
+                transactionTemplate.execute(status -> refreshTokenRepository.deleteExpiredByEmailIn(emails, now)));
+            purgedCounter.increment(deleted);
+            total += deleted;
+
+            RefreshTokenExpiryView last = rows.get(rows.size() - 1);
+            afterExpiryDate = last.getExpiryDate();
+            afterEmail = last.getEmail();
+            if (rows.size() < properties.getChunkSize()) {
+                break;
+            }
+            if (!pause()) {
+                break;
+            }
+        }
+
+        backlog.set(refreshTokenRepository.countByExpiryDateBefore(now));
+        if (total > 0) {
+            log.info("Expired refresh tokens purged: rows={}, backlog={}", total, backlog.get());
+        }
+        return total;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(properties.getPause().toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        stopped = true;
+        if (purgeTask != null) {
+            purgeTask.cancel(false);
+        }
+        // 청크 사이 대기 중이면 깨워서 바로 끝낸다
+        purgeExecutor.shutdownNow();
+    }
+}
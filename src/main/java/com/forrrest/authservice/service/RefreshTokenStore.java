@@ -0,0 +1,247 @@
+package com.forrrest.authservice.service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import com.forrrest.authservice.config.RefreshTokenStoreProperties;
+import com.forrrest.authservice.entity.RefreshToken;
+import com.forrrest.authservice.repository.RefreshTokenRepository;
+import com.forrrest.authservice.utils.digest.TokenDigest;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자별 현재 refresh token 저장소.
+ * write-behind 모드에서는 저장 요청을 이메일 기준으로 합쳐 두었다가 주기적으로
+ * INSERT ... ON DUPLICATE KEY UPDATE 배치로 반영하고, 조회는 대기 중인 값을 먼저 확인한다.
+ * 대기열이 max-pending 에 닿으면 새 이메일은 바로 저장하고, DB 장애로 실패한 배치는 backoff 후 다시 시도한다.
+ * 대기열은 인스턴스 메모리에만 있으므로 write-behind 는 TokenDenylist 와 같이 단일 인스턴스 배포를 전제로 한다.
+ * 여러 인스턴스로 늘리면 다른 인스턴스가 반영 전의 새 refresh token 을 거절하므로 write-behind 를 끄고 배포한다.
+ */
+@Slf4j
+@Component
+public class RefreshTokenStore {
+
+    private static final String UPSERT_SQL = """
+        INSERT INTO refresh_tokens (email, refresh_token, token_digest, expiry_date, created_at, updated_at)
+        VALUES (?, ?, ?, ?, ?, ?)
+        ON DUPLICATE KEY UPDATE
+            refresh_token = VALUES(refresh_token),
+            token_digest = VALUES(token_digest),
+            expiry_date = VALUES(expiry_date),
+            updated_at = VALUES(updated_at)
+        """;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TaskScheduler taskScheduler;
+    private final RefreshTokenStoreProperties properties;
+
+    private final Map<String, PendingToken> pending = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushing = new AtomicBoolean();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final Counter flushedCounter;
+    private final Counter droppedCounter;
+    private final Timer flushTimer;
+    private final Meter.MeterProvider<Timer> saveTimers;
+    private ScheduledFuture<?> flushTask;
+    // flushing 을 잡은 스레드만 읽고 쓴다
+    private Duration retryDelay;
+    private long retryAt;
+
+    public RefreshTokenStore(RefreshTokenRepository refreshTokenRepository, JdbcTemplate jdbcTemplate,
+        TaskScheduler taskScheduler, RefreshTokenStoreProperties properties, MeterRegistry meterRegistry) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.taskScheduler = taskScheduler;
+        this.properties = properties;
+
+        Gauge.builder("auth.refresh.token.pending", pending, Map::size)
+            .register(meterRegistry);
+        this.flushedCounter = Counter.builder("auth.refresh.token.flushed")
+            .register(meterRegistry);
+        // 혼자서도 upsert 에 실패해 대기열에서 버린 행
+        this.droppedCounter = Counter.builder("auth.refresh.token.dropped")
+            .register(meterRegistry);
+        this.flushTimer = Timer.builder("auth.refresh.token.flush")
+            .register(meterRegistry);
+        // 로그인 경로에서 저장에 걸린 시간, mode: write-behind | write-through, outcome: success | error
+        this.saveTimers = Timer.builder("auth.refresh.token.save")
+            .withRegistry(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (properties.isWriteBehind()) {
+            flushTask = taskScheduler.scheduleWithFixedDelay(this::flush, properties.getFlushInterval());
+        }
+    }
+
+    public void save(String email, String refreshToken, LocalDateTime expiryDate) {
+        // 대기열이 가득 차면 (DB 장애로 반영이 밀리는 중) 새 이메일은 요청 안에서 바로 저장한다
+        boolean writeBehind = properties.isWriteBehind()
+            && (pending.size() < properties.getMaxPending() || pending.containsKey(email));
+        long startedAt = System.nanoTime();
+        String outcome = "error";
+        try {
+            if (writeBehind) {
+                enqueue(email, refreshToken, expiryDate);
+            } else {
+                refreshTokenRepository.save(new RefreshToken(email, refreshToken, expiryDate));
+            }
+            outcome = "success";
+        } finally {
+            saveTimers.withTags("mode", writeBehind ? "write-behind" : "write-through", "outcome", outcome)
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void enqueue(String email, String refreshToken, LocalDateTime expiryDate) {
+        pending.put(email, new PendingToken(refreshToken, TokenDigest.sha256(refreshToken), expiryDate));
+        // 배치 크기만큼 쌓이면 주기를 기다리지 않고 반영
+        if (pending.size() >= properties.getBatchSize() && flushRequested.compareAndSet(false, true)) {
+            taskScheduler.schedule(this::flush, Instant.now());
+        }
+    }
+
+    // 반영 중인 upsert 가 행을 되살릴 수 있으므로 호출 측에서 TokenDenylist 로도 막는다
+    public void delete(String email) {
+        pending.remove(email);
+        refreshTokenRepository.deleteById(email);
+    }
+
+    // 아직 반영되지 않은 값이 있으면 그 값이 최신이다
+    public boolean isCurrent(String email, String refreshToken) {
+        byte[] digest = TokenDigest.sha256(refreshToken);
+        PendingToken pendingToken = pending.get(email);
+        if (pendingToken != null) {
+            return Arrays.equals(pendingToken.digest(), digest);
+        }
+        return refreshTokenRepository.existsByTokenDigest(digest);
+    }
+
+    public void flush() {
+        flushRequested.set(false);
+        if (pending.isEmpty() || !flushing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            if (retryDelay != null && System.nanoTime() - retryAt < 0) {
+                return;
+            }
+            while (!pending.isEmpty()) {
+                List<Map.Entry<String, PendingToken>> batch = drain();
+                if (batch.isEmpty()) {
+                    return;
+                }
+                if (!flushTimer.record(() -> write(batch))) {
+                    backOff();
+                    return;
+                }
+                retryDelay = null;
+            }
+        } finally {
+            flushing.set(false);
+        }
+    }
+
+    private void backOff() {
+        retryDelay = retryDelay == null
+            ? properties.getRetryBackoff()
+            : min(retryDelay.multipliedBy(2), properties.getMaxRetryBackoff());
+        retryAt = System.nanoTime() + retryDelay.toNanos();
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+
+    private List<Map.Entry<String, PendingToken>> drain() {
+        List<Map.Entry<String, PendingToken>> batch = new ArrayList<>(properties.getBatchSize());
+        for (Map.Entry<String, PendingToken> entry : pending.entrySet()) {
+            if (batch.size() >= properties.getBatchSize()) {
+                break;
+            }
+            batch.add(Map.entry(entry.getKey(), entry.getValue()));
+        }
+        return batch;
+    }
+
+    // false 면 DB 를 쓸 수 없는 상태이므로 배치를 대기열에 남겨 두고 backoff 후 다시 시도한다
+    private boolean write(List<Map.Entry<String, PendingToken>> batch) {
+        try {
+            upsert(batch);
+        } catch (DataIntegrityViolationException e) {
+            // 일부 행 때문에 배치 전체가 실패하지 않도록 나눠서 다시 쓰고, 혼자서도 실패하는 행은 버린다
+            if (batch.size() == 1) {
+                drop(batch.get(0), e);
+                return true;
+            }
+            int half = batch.size() / 2;
+            return write(batch.subList(0, half)) && write(batch.subList(half, batch.size()));
+        } catch (RuntimeException e) {
+            log.error("Refresh token flush failed: size={}, pending={}, {}", batch.size(), pending.size(),
+                e.getMessage());
+            return false;
+        }
+        // 반영 중에 같은 이메일로 새 값이 들어왔으면 그 값은 남긴다
+        batch.forEach(entry -> pending.remove(entry.getKey(), entry.getValue()));
+        flushedCounter.increment(batch.size());
+        return true;
+    }
+
+    private void upsert(List<Map.Entry<String, PendingToken>> batch) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPSERT_SQL, batch, batch.size(), (ps, entry) -> {
+            ps.setString(1, entry.getKey());
+            ps.setString(2, entry.getValue().token());
+            ps.setBytes(3, entry.getValue().digest());
+            ps.setTimestamp(4, Timestamp.valueOf(entry.getValue().expiryDate()));
+            ps.setTimestamp(5, now);
+            ps.setTimestamp(6, now);
+        });
+    }
+
+    // 버린 토큰은 isCurrent 에서 더 이상 인정되지 않으므로 해당 사용자는 다시 로그인해야 한다
+    private void drop(Map.Entry<String, PendingToken> entry, DataIntegrityViolationException e) {
+        if (pending.remove(entry.getKey(), entry.getValue())) {
+            droppedCounter.increment();
+        }
+        log.warn("Refresh token dropped from write-behind queue: {}", e.getMostSpecificCause().getMessage());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (flushTask != null) {
+            flushTask.cancel(false);
+        }
+        // 종료 시에는 backoff 중이어도 마지막으로 한 번 시도
+        retryDelay = null;
+        flush();
+    }
+
+    private record PendingToken(String token, byte[] digest, LocalDateTime expiryDate) {
+    }
+}
@@ -1,68 +1,159 @@
 package com.forrrest.authservice.service;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.forrrest.authservice.config.TokenIssuerProperties;
 import com.forrrest.authservice.dto.response.AuthResponse;
 import com.forrrest.authservice.dto.response.ProfileResponse;
 import com.forrrest.authservice.dto.response.TokenInfo;
-import com.forrrest.authservice.entity.Profile;
-import com.forrrest.authservice.entity.RefreshToken;
 import com.forrrest.authservice.entity.User;
-import com.forrrest.authservice.repository.RefreshTokenRepository;
+import com.forrrest.authservice.security.TokenDenylist;
+import com.forrrest.authservice.token.JwtTokenIssuer;
+import com.forrrest.authservice.token.JwtTokenVerifier;
+import com.forrrest.authservice.token.RefreshRotationPolicy;
+import com.forrrest.authservice.token.VerifiedToken;
 import com.forrrest.common.security.config.TokenProperties;
 import com.forrrest.common.security.token.JwtTokenProvider;
 import com.forrrest.common.security.token.TokenType;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class TokenService {
+    private static final Base64.Encoder TOKEN_ID_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
     private final JwtTokenProvider jwtTokenProvider;
     private final TokenProperties tokenProperties;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
+    private final JwtTokenVerifier jwtTokenVerifier;
+    private final JwtTokenIssuer jwtTokenIssuer;
+    private final TokenIssuerProperties tokenIssuerProperties;
+    private final RefreshRotationPolicy refreshRotationPolicy;
+    private final TokenDenylist tokenDenylist;
+    private final Meter.MeterProvider<Timer> createTokenTimers;
+
+    public TokenService(JwtTokenProvider jwtTokenProvider, TokenProperties tokenProperties,
+        RefreshTokenStore refreshTokenStore, JwtTokenVerifier jwtTokenVerifier, JwtTokenIssuer jwtTokenIssuer,
+        TokenIssuerProperties tokenIssuerProperties, RefreshRotationPolicy refreshRotationPolicy,
+        TokenDenylist tokenDenylist, MeterRegistry meterRegistry) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.tokenProperties = tokenProperties;
+        this.refreshTokenStore = refreshTokenStore;
+        this.jwtTokenVerifier = jwtTokenVerifier;
+        this.jwtTokenIssuer = jwtTokenIssuer;
+        this.tokenIssuerProperties = tokenIssuerProperties;
+        this.refreshRotationPolicy = refreshRotationPolicy;
+        this.tokenDenylist = tokenDenylist;
+
+        // type: TokenType, issuer: issuer | provider, outcome: success | error
+        this.createTokenTimers = Timer.builder("auth.token.create")
+            .withRegistry(meterRegistry);
+    }
 
     @Transactional
-    public AuthResponse createAuthResponse(User user, Profile profile) {
-        Map<String, Object> userClaims = Map.of(
-            "username", user.getUsername(),
-            "roles", List.of("USER")
-        );
+    public AuthResponse createAuthResponse(User user, ProfileResponse profile) {
+        Map<String, Object> userClaims = userClaims(user);
+
+        String userAccessToken = createToken(user.getEmail(), TokenType.USER_ACCESS, userClaims);
+        String userRefreshToken = createToken(user.getEmail(), TokenType.USER_REFRESH, userClaims);
+
+        refreshTokenStore.save(user.getEmail(), userRefreshToken,
+            LocalDateTime.now().plus(tokenProperties.getValidity().get(TokenType.USER_REFRESH), ChronoUnit.MILLIS));
+
+        return createAuthResponse(user, profile, userAccessToken, userRefreshToken);
+    }
+
+    // 교체 정책상 필요 없으면 아직 유효한 refresh token 을 그대로 돌려주고 저장도 생략
+    @Transactional
+    public AuthResponse refreshAuthResponse(User user, ProfileResponse profile, VerifiedToken refreshToken,
+        String rawRefreshToken) {
+        if (refreshRotationPolicy.shouldRotate(refreshToken, Instant.now())) {
+            return createAuthResponse(user, profile);
+        }
+
+        String userAccessToken = createToken(user.getEmail(), TokenType.USER_ACCESS, userClaims(user));
+        return createAuthResponse(user, profile, userAccessToken, rawRefreshToken);
+    }
 
+    private AuthResponse createAuthResponse(User user, ProfileResponse profile, String userAccessToken,
+        String userRefreshToken) {
         Map<String, Object> profileClaims = Map.of(
             "username", user.getUsername(),
             "roles", List.of("PROFILE")
         );
 
-        String userAccessToken = jwtTokenProvider.createToken(user.getEmail(), TokenType.USER_ACCESS, userClaims);
-        String userRefreshToken = jwtTokenProvider.createToken(user.getEmail(), TokenType.USER_REFRESH, userClaims);
-        String profileAccessToken = jwtTokenProvider.createToken(
+        String profileAccessToken = createToken(
             String.valueOf(profile.getId()),
             TokenType.PROFILE_ACCESS,
             profileClaims
         );
-        String profileRefreshToken = jwtTokenProvider.createToken(
+        String profileRefreshToken = createToken(
             String.valueOf(profile.getId()),
             TokenType.PROFILE_REFRESH,
             profileClaims
         );
 
-        refreshTokenRepository.save(
-            new RefreshToken(user.getEmail(), userRefreshToken, LocalDateTime.now()));
-
         return AuthResponse.builder()
             .userToken(createTokenInfo(userAccessToken, userRefreshToken, TokenType.USER_ACCESS))
             .profileToken(createTokenInfo(profileAccessToken, profileRefreshToken, TokenType.PROFILE_ACCESS))
-            .profileResponse(ProfileResponse.from(profile))
+            .profileResponse(profile)
             .build();
     }
 
+    private Map<String, Object> userClaims(User user) {
+        return Map.of(
+            "username", user.getUsername(),
+            "roles", user.isAdmin() ? List.of("USER", "ADMIN") : List.of("USER")
+        );
+    }
+
+    // 모든 토큰에 jti 를 붙여 개별 폐기할 수 있게 한다
+    // 폐기 기록이 있는 주체는 그 폐기 이후 발급분임을 알 수 있도록 마지막 폐기 시각도 넣는다
+    private String createToken(String subject, TokenType tokenType, Map<String, Object> claims) {
+        Map<String, Object> tokenClaims = new HashMap<>(claims);
+        tokenClaims.put(JwtTokenVerifier.ID_CLAIM, newTokenId());
+        long revokedAt = tokenDenylist.revocationOf(subject);
+        if (revokedAt > 0) {
+            tokenClaims.put(TokenDenylist.REVOCATION_CLAIM, revokedAt);
+        }
+        boolean issuerEnabled = tokenIssuerProperties.isEnabled();
+        long startedAt = System.nanoTime();
+        String outcome = "error";
+        try {
+            String token = issuerEnabled
+                ? jwtTokenIssuer.issue(subject, tokenType, tokenClaims)
+                : jwtTokenProvider.createToken(subject, tokenType, tokenClaims);
+            outcome = "success";
+            return token;
+        } finally {
+            createTokenTimers.withTags("type", tokenType.name(), "issuer", issuerEnabled ? "issuer" : "provider",
+                    "outcome", outcome)
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // 128bit 난수, 추측 불가능할 필요는 없고 겹치지만 않으면 된다
+    private static String newTokenId() {
+        byte[] bytes = new byte[16];
+        ThreadLocalRandom.current().nextBytes(bytes);
+        return TOKEN_ID_ENCODER.encodeToString(bytes);
+    }
+
     private TokenInfo createTokenInfo(String accessToken, String refreshToken, TokenType tokenType) {
         return TokenInfo.builder()
             .accessToken(accessToken)
@@ -72,13 +163,33 @@ public class TokenService {
             .build();
     }
 
-    public boolean validateToken(String token) {
-        return jwtTokenProvider.validateToken(token);
+    // 서명 검증과 클레임 파싱을 한 번에 수행
+    public VerifiedToken verifyToken(String token, TokenType expectedType) {
+        return jwtTokenVerifier.verify(token, expectedType);
     }
 
-    public String getEmailFromToken(String token) {
-        return jwtTokenProvider.getAuthentication(token).getName();
+    public boolean isRevoked(VerifiedToken token) {
+        return tokenDenylist.isRevoked(token);
     }
 
+    public void revokeToken(VerifiedToken token) {
+        tokenDenylist.revoke(token);
+    }
 
+    // 로그아웃, 비밀번호 변경: 저장된 refresh token 을 지우고 지금까지 발급된 사용자 토큰과 프로필 토큰을 모두 거절
+    // (AccessTokenCache 는 적중 시에도 TokenDenylist 를 확인하므로 캐시 항목을 따로 지우지 않는다)
+    @Transactional
+    public void revokeTokens(String email, Collection<Long> profileIds) {
+        Instant now = Instant.now();
+        long userValidity = Math.max(tokenProperties.getValidity().get(TokenType.USER_ACCESS),
+            tokenProperties.getValidity().get(TokenType.USER_REFRESH));
+        long profileValidity = Math.max(tokenProperties.getValidity().get(TokenType.PROFILE_ACCESS),
+            tokenProperties.getValidity().get(TokenType.PROFILE_REFRESH));
+        refreshTokenStore.delete(email);
+        tokenDenylist.revokeSubject(email, now, now.plusMillis(userValidity));
+        // 프로필 토큰의 subject 는 프로필 id
+        for (Long profileId : profileIds) {
+            tokenDenylist.revokeSubject(String.valueOf(profileId), now, now.plusMillis(profileValidity));
+        }
+    }
 }
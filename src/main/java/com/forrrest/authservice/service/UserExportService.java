@@ -0,0 +1,167 @@
+package com.forrrest.authservice.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.forrrest.authservice.config.UserExportProperties;
+import com.forrrest.authservice.dto.response.ProfileResponse;
+import com.forrrest.authservice.dto.response.UserExportResponse;
+import com.forrrest.authservice.dto.response.UserResponse;
+import com.forrrest.authservice.exception.CustomException;
+import com.forrrest.authservice.exception.ErrorCode;
+import com.forrrest.authservice.repository.ProfileRepository;
+import com.forrrest.authservice.repository.UserRepository;
+import com.forrrest.authservice.repository.projection.ProfileExportView;
+
+/**
+ * 사용자를 가입 시각 순서로 프로필과 함께 내보낸다.
+ * 페이지마다 짧은 읽기 트랜잭션으로 읽고 트랜잭션 밖에서 consumer 로 넘기므로 느린 클라이언트가 커넥션을 붙잡지 않는다.
+ * id 는 인스턴스별 블록에서 받아 가입 순서와 맞지 않으므로 (created_at, id) 를 이어 받기 커서로 쓴다.
+ * created_at 은 커밋 전에 기록되어 커서 뒤에 더 이른 가입자가 나중에 커밋될 수 있으므로, 끝까지 읽은 뒤 마지막
+ * overlap 구간을 한 번 더 읽어 보내지 않은 사용자를 보내고, 이어 받기는 커서보다 overlap 만큼 앞에서 시작한다
+ * (이미 받은 사용자가 다시 올 수 있어 클라이언트가 user.id 로 중복을 제거한다).
+ */
+@Service
+public class UserExportService {
+
+    private static final int PAGE_SIZE = 500;
+    private static final LocalDateTime EXPORT_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final UserRepository userRepository;
+    private final ProfileRepository profileRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Duration overlap;
+
+    public UserExportService(UserRepository userRepository, ProfileRepository profileRepository,
+        PlatformTransactionManager transactionManager, UserExportProperties properties) {
+        this.userRepository = userRepository;
+        this.profileRepository = profileRepository;
+        this.overlap = properties.getOverlap();
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    // cursor 이후 사용자를 consumer 로 넘기고 넘긴 수를 반환한다 (한 번에 한 페이지만 메모리에 둔다)
+    public long exportUsers(String cursor, Consumer<UserExportResponse> consumer) {
+        Cursor resume = Cursor.decode(cursor);
+        RecentIds recent = new RecentIds(overlap);
+        long exported = export(cursor == null || cursor.isEmpty()
+            ? resume : new Cursor(resume.createdAt().minus(overlap), 0L), recent, consumer);
+        // 읽는 동안 늦게 커밋된 가입자
+        if (recent.newest != null) {
+            exported += export(new Cursor(recent.newest.minus(overlap), 0L), recent, consumer);
+        }
+        return exported;
+    }
+
+    private long export(Cursor after, RecentIds recent, Consumer<UserExportResponse> consumer) {
+        long exported = 0;
+        while (true) {
+            Cursor pageAfter = after;
+            List<UserExportResponse> page = readOnlyTransaction.execute(status -> readPage(pageAfter));
+            for (UserExportResponse user : page) {
+                if (recent.add(user.getUser())) {
+                    consumer.accept(user);
+                    exported++;
+                }
+            }
+            if (page.size() < PAGE_SIZE) {
+                return exported;
+            }
+            UserResponse last = page.get(page.size() - 1).getUser();
+            after = new Cursor(last.getCreatedAt(), last.getId());
+        }
+    }
+
+    private List<UserExportResponse> readPage(Cursor after) {
+        List<UserResponse> users = userRepository.findResponsesCreatedAfter(after.createdAt(), after.id(),
+            PageRequest.of(0, PAGE_SIZE));
+        if (users.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, List<ProfileResponse>> profiles = profileRepository
+            .findExportRowsByUserIdIn(users.stream().map(UserResponse::getId).toList()).stream()
+            .collect(Collectors.groupingBy(ProfileExportView::getUserId, Collectors.mapping(
+                row -> new ProfileResponse(row.getId(), row.getName(), Boolean.TRUE.equals(row.getIsDefault()),
+                    row.getCreatedAt(), row.getUpdatedAt()),
+                Collectors.toList())));
+        return users.stream()
+            .map(user -> toExportResponse(user, profiles.getOrDefault(user.getId(), List.of())))
+            .toList();
+    }
+
+    private static UserExportResponse toExportResponse(UserResponse user, List<ProfileResponse> profiles) {
+        return UserExportResponse.builder()
+            .user(user)
+            .defaultProfileId(profiles.stream()
+                .filter(ProfileResponse::isDefault)
+                .map(ProfileResponse::getId)
+                .findFirst()
+                .orElse(null))
+            .profiles(profiles)
+            .cursor(new Cursor(user.getCreatedAt(), user.getId()).encode())
+            .build();
+    }
+
+    // 가장 늦은 가입 시각에서 overlap 이내에 보낸 사용자 id (그보다 오래된 id 는 다시 읽지 않으므로 버린다)
+    private static final class RecentIds {
+        private final Duration overlap;
+        private final Map<Long, LocalDateTime> ids = new LinkedHashMap<>();
+        private LocalDateTime newest;
+
+        private RecentIds(Duration overlap) {
+            this.overlap = overlap;
+        }
+
+        private boolean add(UserResponse user) {
+            if (ids.putIfAbsent(user.getId(), user.getCreatedAt()) != null) {
+                return false;
+            }
+            if (newest == null || user.getCreatedAt().isAfter(newest)) {
+                newest = user.getCreatedAt();
+                LocalDateTime oldest = newest.minus(overlap);
+                Iterator<LocalDateTime> createdAts = ids.values().iterator();
+                while (createdAts.hasNext() && createdAts.next().isBefore(oldest)) {
+                    createdAts.remove();
+                }
+            }
+            return true;
+        }
+    }
+
+    private record Cursor(LocalDateTime createdAt, long id) {
+
+        private String encode() {
+            return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((createdAt + "_" + id).getBytes(StandardCharsets.US_ASCII));
+        }
+
+        private static Cursor decode(String cursor) {
+            if (cursor == null || cursor.isEmpty()) {
+                return new Cursor(EXPORT_START, 0L);
+            }
+            try {
+                String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+                int separator = value.lastIndexOf('_');
+                return new Cursor(LocalDateTime.parse(value.substring(0, separator)),
+                    Long.parseLong(value.substring(separator + 1)));
+            } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+                throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+            }
+        }
+    }
+}
@@ -8,7 +8,10 @@ import com.forrrest.authservice.exception.ErrorCode;
 import com.forrrest.authservice.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 
-import org.springframework.security.crypto.password.PasswordEncoder;
+import java.util.Locale;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,28 +21,58 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashService passwordHashService;
+    private final EmailExistenceFilter emailExistenceFilter;
 
     public boolean existsByEmail(String email) {
+        if (!emailExistenceFilter.mightExist(email)) {
+            return false;
+        }
         return userRepository.existsByEmail(email);
     }
 
+    // Bloom filter 가 동기화 전이라 중복 확인을 건너뛰었거나 동시에 가입한 경우 email unique 키 위반을 중복으로 응답
     @Transactional
     public User createUser(SignupRequest request) {
-        return userRepository.save(User.builder()
-            .email(request.getEmail())
-            .password(passwordEncoder.encode(request.getPassword()))
-            .username(request.getUsername())
-            .build());
+        User user;
+        try {
+            user = userRepository.saveAndFlush(User.builder()
+                .email(request.getEmail())
+                .password(passwordHashService.encode(request.getPassword()))
+                .username(request.getUsername())
+                .build());
+        } catch (DataIntegrityViolationException e) {
+            if (!isEmailDuplicate(e)) {
+                throw e;
+            }
+            emailExistenceFilter.put(request.getEmail());
+            throw new CustomException(ErrorCode.EMAIL_DUPLICATION);
+        }
+        emailExistenceFilter.put(user.getEmail());
+        return user;
+    }
+
+    // users 의 unique 키는 PK 와 email 뿐이므로 PK 가 아닌 unique 위반만 이메일 중복으로 본다
+    // (NOT NULL 위반, 길이 초과 등은 409 로 바꾸지 않고 필터에도 넣지 않는다)
+    private static boolean isEmailDuplicate(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                String constraintName = violation.getConstraintName();
+                return violation.getKind() == ConstraintViolationException.ConstraintKind.UNIQUE
+                    && (constraintName == null || !constraintName.toUpperCase(Locale.ROOT).contains("PRIMARY"));
+            }
+        }
+        return false;
     }
 
+    // 다른 인스턴스의 가입은 sync-interval 뒤에야 필터에 반영되므로 로그인/조회는 필터 판정 없이 DB 로 확인
     public User getUserByEmail(String email) {
-        return userRepository.findByEmail(email)
+        return userRepository.loadByEmail(email)
             .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
     }
 
     public UserResponse getUserInfo(String email) {
-        User user = getUserByEmail(email);
-        return UserResponse.from(user);
+        return userRepository.findResponseByEmail(email)
+            .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,251 @@
+package com.forrrest.authservice.token;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+
+import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
+
+import org.springframework.stereotype.Component;
+
+import com.forrrest.authservice.utils.pool.ThreadLocalPool;
+import com.forrrest.common.security.config.TokenProperties;
+import com.forrrest.common.security.token.TokenType;
+
+/**
+ * HMAC JWT 발급기.
+ * kid 별 헤더의 base64url 은 키 링이 한 번만 만들고, 스레드별(가상 스레드는 풀에서 빌린) Mac 과 버퍼에 클레임을 직접 써서 서명한다.
+ * 결과는 jjwt 로 만든 토큰과 같은 형식(JWS compact)이라 기존 검증기로 그대로 검증된다.
+ */
+@Component
+public class JwtTokenIssuer {
+
+    private static final byte[] BASE64_URL =
+        "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private final TokenProperties tokenProperties;
+    private final SigningKeyRing signingKeyRing;
+    private final ThreadLocalPool<IssueBuffer> buffers;
+
+    public JwtTokenIssuer(TokenProperties tokenProperties, SigningKeyRing signingKeyRing) {
+        this.tokenProperties = tokenProperties;
+        this.signingKeyRing = signingKeyRing;
+        this.buffers = new ThreadLocalPool<>(IssueBuffer::new);
+    }
+
+    public String issue(String subject, TokenType type, Map<String, ?> claims) {
+        IssueBuffer buffer = buffers.acquire();
+        try {
+            return issue(buffer, subject, type, claims);
+        } finally {
+            buffers.release(buffer);
+        }
+    }
+
+    private String issue(IssueBuffer buffer, String subject, TokenType type, Map<String, ?> claims) {
+        // 키 링이 교체되면 다음 발급부터 새 현재 키로 서명 (버퍼의 Mac 은 키가 바뀔 때 다시 초기화)
+        SigningKey signingKey = signingKeyRing.current();
+        long issuedAt = System.currentTimeMillis() / 1000;
+        long expiresAt = issuedAt + tokenProperties.getValidity().get(type) / 1000;
+
+        ByteWriter json = buffer.json;
+        json.reset();
+        json.write('{');
+        writeField(json, "sub", subject);
+        json.write(',');
+        writeField(json, JwtTokenVerifier.TYPE_CLAIM, type.name());
+        for (Map.Entry<String, ?> claim : claims.entrySet()) {
+            json.write(',');
+            writeString(json, claim.getKey());
+            json.write(':');
+            writeValue(json, claim.getValue());
+        }
+        json.writeAscii(",\"iat\":");
+        json.writeLong(issuedAt);
+        json.writeAscii(",\"exp\":");
+        json.writeLong(expiresAt);
+        json.write('}');
+
+        ByteWriter out = buffer.out;
+        out.reset();
+        out.write(signingKey.encodedHeader());
+        out.write('.');
+        writeBase64Url(out, json.bytes, 0, json.length);
+
+        Mac mac = buffer.mac(signingKey);
+        mac.update(out.bytes, 0, out.length);
+        byte[] signature = buffer.signature;
+        try {
+            mac.doFinal(signature, 0);
+        } catch (ShortBufferException e) {
+            throw new IllegalStateException(e);
+        }
+        out.write('.');
+        writeBase64Url(out, signature, 0, mac.getMacLength());
+
+        return new String(out.bytes, 0, out.length, StandardCharsets.ISO_8859_1);
+    }
+
+    private static void writeField(ByteWriter json, String name, String value) {
+        writeString(json, name);
+        json.write(':');
+        writeString(json, value);
+    }
+
+    private static void writeValue(ByteWriter json, Object value) {
+        if (value == null) {
+            json.writeAscii("null");
+        } else if (value instanceof Number || value instanceof Boolean) {
+            json.writeAscii(value.toString());
+        } else if (value instanceof Collection<?> values) {
+            json.write('[');
+            boolean first = true;
+            for (Object element : values) {
+                if (!first) {
+                    json.write(',');
+                }
+                writeValue(json, element);
+                first = false;
+            }
+            json.write(']');
+        } else {
+            writeString(json, value.toString());
+        }
+    }
+
+    // JSON 문자열을 UTF-8 로 직접 인코딩
+    private static void writeString(ByteWriter json, String value) {
+        json.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.write('\\');
+                json.write(c);
+            } else if (c < 0x20) {
+                json.writeAscii("\\u00");
+                json.write(HEX[c >> 4]);
+                json.write(HEX[c & 0xF]);
+            } else if (c < 0x80) {
+                json.write(c);
+            } else if (c < 0x800) {
+                json.write(0xC0 | (c >> 6));
+                json.write(0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                json.write(0xF0 | (codePoint >> 18));
+                json.write(0x80 | ((codePoint >> 12) & 0x3F));
+                json.write(0x80 | ((codePoint >> 6) & 0x3F));
+                json.write(0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                json.write('?');
+            } else {
+                json.write(0xE0 | (c >> 12));
+                json.write(0x80 | ((c >> 6) & 0x3F));
+                json.write(0x80 | (c & 0x3F));
+            }
+        }
+        json.write('"');
+    }
+
+    // padding 없는 base64url
+    private static void writeBase64Url(ByteWriter out, byte[] src, int offset, int length) {
+        out.ensureCapacity((length + 2) / 3 * 4);
+        int end = offset + length;
+        int i = offset;
+        for (; i + 3 <= end; i += 3) {
+            int bits = (src[i] & 0xFF) << 16 | (src[i + 1] & 0xFF) << 8 | (src[i + 2] & 0xFF);
+            out.write(BASE64_URL[bits >>> 18 & 0x3F]);
+            out.write(BASE64_URL[bits >>> 12 & 0x3F]);
+            out.write(BASE64_URL[bits >>> 6 & 0x3F]);
+            out.write(BASE64_URL[bits & 0x3F]);
+        }
+        int remaining = end - i;
+        if (remaining == 1) {
+            int bits = (src[i] & 0xFF) << 16;
+            out.write(BASE64_URL[bits >>> 18 & 0x3F]);
+            out.write(BASE64_URL[bits >>> 12 & 0x3F]);
+        } else if (remaining == 2) {
+            int bits = (src[i] & 0xFF) << 16 | (src[i + 1] & 0xFF) << 8;
+            out.write(BASE64_URL[bits >>> 18 & 0x3F]);
+            out.write(BASE64_URL[bits >>> 12 & 0x3F]);
+            out.write(BASE64_URL[bits >>> 6 & 0x3F]);
+        }
+    }
+
+    private static class IssueBuffer {
+        private final ByteWriter json = new ByteWriter(512);
+        private final ByteWriter out = new ByteWriter(1024);
+        private final byte[] signature = new byte[64];
+        private SigningKey macKey;
+        private Mac mac;
+
+        Mac mac(SigningKey signingKey) {
+            if (macKey != signingKey) {
+                try {
+                    mac = Mac.getInstance(signingKey.secretKey().getAlgorithm());
+                    mac.init(signingKey.secretKey());
+                } catch (GeneralSecurityException e) {
+                    throw new IllegalStateException(e);
+                }
+                macKey = signingKey;
+            }
+            return mac;
+        }
+    }
+
+    private static class ByteWriter {
+        private byte[] bytes;
+        private int length;
+
+        ByteWriter(int capacity) {
+            this.bytes = new byte[capacity];
+        }
+
+        void reset() {
+            length = 0;
+        }
+
+        void ensureCapacity(int additional) {
+            if (length + additional > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + additional));
+            }
+        }
+
+        void write(int b) {
+            ensureCapacity(1);
+            bytes[length++] = (byte)b;
+        }
+
+        void write(byte[] src) {
+            ensureCapacity(src.length);
+            System.arraycopy(src, 0, bytes, length, src.length);
+            length += src.length;
+        }
+
+        void writeAscii(String value) {
+            ensureCapacity(value.length());
+            for (int i = 0; i < value.length(); i++) {
+                bytes[length++] = (byte)value.charAt(i);
+            }
+        }
+
+        // 0 이상의 정수만 사용 (iat, exp)
+        void writeLong(long value) {
+            int digits = 1;
+            for (long rest = value / 10; rest > 0; rest /= 10) {
+                digits++;
+            }
+            ensureCapacity(digits);
+            for (int i = length + digits - 1; i >= length; i--) {
+                bytes[i] = (byte)('0' + value % 10);
+                value /= 10;
+            }
+            length += digits;
+        }
+    }
+}
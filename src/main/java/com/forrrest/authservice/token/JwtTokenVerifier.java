@@ -0,0 +1,100 @@
+package com.forrrest.authservice.token;
+
+import java.security.Key;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+import com.forrrest.authservice.exception.CustomException;
+import com.forrrest.authservice.exception.ErrorCode;
+import com.forrrest.common.security.token.TokenType;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.ProtectedHeader;
+
+/**
+ * 서명 검증과 클레임 파싱을 한 번에 수행한다.
+ * validateToken 후 getAuthentication 으로 같은 토큰을 두 번 파싱하던 경로를 대체한다.
+ */
+@Component
+public class JwtTokenVerifier {
+
+    // forrrest-common JwtTokenProvider 가 토큰 종류를 담는 클레임 (JwtTokenVerifierTest 에서 고정)
+    public static final String TYPE_CLAIM = "type";
+    public static final String ID_CLAIM = Claims.ID;
+
+    private static final Set<String> REGISTERED_CLAIMS = Set.of(
+        Claims.SUBJECT, Claims.EXPIRATION, Claims.ISSUED_AT, Claims.NOT_BEFORE,
+        Claims.ISSUER, Claims.AUDIENCE, Claims.ID, TYPE_CLAIM);
+
+    private final JwtParser parser;
+
+    public JwtTokenVerifier(SigningKeyRing signingKeyRing) {
+        this.parser = Jwts.parser()
+            .keyLocator(new LocatorAdapter<Key>() {
+                @Override
+                protected Key locate(ProtectedHeader header) {
+                    // 키 링이 교체되면 다음 검증부터 새 키 집합에서 찾는다
+                    return signingKeyRing.verificationKey(header.getKeyId());
+                }
+            })
+            .build();
+    }
+
+    public VerifiedToken verify(String token) {
+        Jws<Claims> jws;
+        try {
+            jws = parser.parseSignedClaims(token);
+        } catch (ExpiredJwtException e) {
+            throw new CustomException(ErrorCode.EXPIRED_TOKEN);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.INVALID_TOKEN);
+        }
+
+        Claims claims = jws.getPayload();
+        Map<String, Object> customClaims = new HashMap<>();
+        claims.forEach((name, value) -> {
+            if (!REGISTERED_CLAIMS.contains(name) && value != null) {
+                customClaims.put(name, value);
+            }
+        });
+
+        return VerifiedToken.builder()
+            .id(claims.getId())
+            .subject(claims.getSubject())
+            .type(parseType(claims.get(TYPE_CLAIM)))
+            .issuedAt(claims.getIssuedAt() == null ? null : claims.getIssuedAt().toInstant())
+            .expiresAt(claims.getExpiration() == null ? null : claims.getExpiration().toInstant())
+            .keyId(jws.getHeader().getKeyId())
+            .claims(Map.copyOf(customClaims))
+            .build();
+    }
+
+    // 기대한 토큰 종류가 아니면 거절 (type 클레임이 없거나 알 수 없는 값이면 종류를 확인할 수 없으므로 거절)
+    public VerifiedToken verify(String token, TokenType expectedType) {
+        VerifiedToken verifiedToken = verify(token);
+        if (verifiedToken.getType() != expectedType) {
+            throw new CustomException(ErrorCode.INVALID_TOKEN);
+        }
+        return verifiedToken;
+    }
+
+    private static TokenType parseType(Object type) {
+        if (type == null) {
+            return null;
+        }
+        try {
+            return TokenType.valueOf(type.toString());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.forrrest.authservice.token;
+
+import java.time.Instant;
+
+import org.springframework.stereotype.Component;
+
+import com.forrrest.authservice.config.RefreshRotationProperties;
+
+import lombok.RequiredArgsConstructor;
+
+// /auth/refresh 에서 refresh token 을 새로 발급할지 결정
+@Component
+@RequiredArgsConstructor
+public class RefreshRotationPolicy {
+
+    private final RefreshRotationProperties properties;
+
+    public boolean shouldRotate(VerifiedToken refreshToken, Instant now) {
+        return switch (properties.getMode()) {
+            case ALWAYS -> true;
+            case BEFORE_EXPIRY -> refreshToken.getExpiresAt() == null
+                || !now.plus(properties.getWindow()).isBefore(refreshToken.getExpiresAt());
+            case SLIDING -> refreshToken.getIssuedAt() == null
+                || !refreshToken.getIssuedAt().plus(properties.getSlidingInterval()).isAfter(now);
+        };
+    }
+}
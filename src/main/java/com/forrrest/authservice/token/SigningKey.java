@@ -0,0 +1,35 @@
+package com.forrrest.authservice.token;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * kid, HMAC 키와 미리 인코딩한 헤더.
+ * 알고리즘은 jjwt 의 signWith(key) 와 같이 키 길이로 정한다.
+ */
+record SigningKey(String keyId, SecretKey secretKey, byte[] encodedHeader) {
+
+    static SigningKey of(String keyId, byte[] secret) {
+        String algorithm;
+        String macAlgorithm;
+        if (secret.length >= 64) {
+            algorithm = "HS512";
+            macAlgorithm = "HmacSHA512";
+        } else if (secret.length >= 48) {
+            algorithm = "HS384";
+            macAlgorithm = "HmacSHA384";
+        } else if (secret.length >= 32) {
+            algorithm = "HS256";
+            macAlgorithm = "HmacSHA256";
+        } else {
+            throw new IllegalStateException("HMAC key for " + keyId + " must be at least 256 bits");
+        }
+        String header = "{\"kid\":\"" + keyId + "\",\"alg\":\"" + algorithm + "\"}";
+        byte[] encodedHeader = Base64.getUrlEncoder().withoutPadding()
+            .encode(header.getBytes(StandardCharsets.UTF_8));
+        return new SigningKey(keyId, new SecretKeySpec(secret, macAlgorithm), encodedHeader);
+    }
+}
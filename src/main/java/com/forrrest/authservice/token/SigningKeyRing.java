@@ -0,0 +1,186 @@
+package com.forrrest.authservice.token;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+
+import javax.crypto.SecretKey;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.PropertiesPropertySourceLoader;
+import org.springframework.boot.env.PropertySourceLoader;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import com.forrrest.authservice.config.KeyRingProperties;
+import com.forrrest.authservice.config.TokenKeyProperties;
+
+import io.jsonwebtoken.io.Decoders;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * kid 별 서명 키 집합.
+ * 시크릿은 키 집합을 만들 때 한 번만 디코딩하고, auth.key-ring.path 파일이 바뀌면 새 집합을 만들어 참조 하나로 교체한다.
+ * 발급/검증은 교체 시점의 집합 하나만 읽으므로 요청 경로에 잠금이나 추가 조회가 없다.
+ */
+@Slf4j
+@Component
+public class SigningKeyRing {
+
+    private final KeyRingProperties properties;
+    private final TaskScheduler taskScheduler;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Counter reloadedCounter;
+    private final Counter reloadFailedCounter;
+
+    private volatile KeySet keySet;
+    private FileTime lastModified;
+    private ScheduledFuture<?> reloadTask;
+
+    public SigningKeyRing(TokenKeyProperties tokenKeyProperties, KeyRingProperties properties,
+        TaskScheduler taskScheduler, ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.taskScheduler = taskScheduler;
+        this.eventPublisher = eventPublisher;
+        this.keySet = KeySet.of(tokenKeyProperties);
+
+        this.reloadedCounter = Counter.builder("auth.token.key.reload")
+            .tag("outcome", "success")
+            .register(meterRegistry);
+        this.reloadFailedCounter = Counter.builder("auth.token.key.reload")
+            .tag("outcome", "failure")
+            .register(meterRegistry);
+
+        // 기동 시 파일이 있으면 application.yml 의 키 대신 사용 (잘못된 파일이면 기동 실패)
+        Path path = path();
+        if (path != null && Files.exists(path)) {
+            reload(path);
+        }
+    }
+
+    // 교체하지 않는 고정 키 집합 (테스트, 벤치마크)
+    public static SigningKeyRing of(TokenKeyProperties tokenKeyProperties) {
+        return new SigningKeyRing(tokenKeyProperties, new KeyRingProperties(), null, event -> {
+        }, new SimpleMeterRegistry());
+    }
+
+    SigningKey current() {
+        return keySet.current();
+    }
+
+    // kid 가 없는 토큰은 현재 키로 검증, 모르는 kid 이면 null
+    public SecretKey verificationKey(String keyId) {
+        KeySet keys = keySet;
+        SigningKey key = keyId == null ? keys.current() : keys.byKeyId().get(keyId);
+        return key == null ? null : key.secretKey();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (path() != null) {
+            reloadTask = taskScheduler.scheduleWithFixedDelay(this::reloadIfModified, properties.getReloadInterval());
+        }
+    }
+
+    // 실패하면 기존 키 집합을 유지하고 다음 주기에 다시 시도한다
+    void reloadIfModified() {
+        Path path = path();
+        try {
+            if (!Files.exists(path) || Files.getLastModifiedTime(path).equals(lastModified)) {
+                return;
+            }
+            reload(path);
+            reloadedCounter.increment();
+        } catch (IOException | RuntimeException e) {
+            reloadFailedCounter.increment();
+            log.warn("Signing keys not reloaded from {}: {}", path, e.getMessage());
+        }
+    }
+
+    private void reload(Path path) {
+        try {
+            FileTime modified = Files.getLastModifiedTime(path);
+            KeySet previous = keySet;
+            KeySet loaded = KeySet.of(load(path));
+            keySet = loaded;
+            lastModified = modified;
+            log.info("Signing keys loaded: keyIds={}, currentKeyId={}", loaded.byKeyId().keySet(),
+                loaded.current().keyId());
+            eventPublisher.publishEvent(new SigningKeysReloadedEvent(changedKeyIds(previous, loaded),
+                !sameSecret(previous.current(), loaded.current())));
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read signing keys from " + path, e);
+        }
+    }
+
+    // 같은 kid 로 시크릿만 바꾼 경우도 포함한다 (그 kid 로 검증해 둔 결과는 더 이상 믿을 수 없다)
+    private static Set<String> changedKeyIds(KeySet previous, KeySet loaded) {
+        Set<String> changed = new HashSet<>();
+        previous.byKeyId().forEach((keyId, key) -> {
+            if (!sameSecret(key, loaded.byKeyId().get(keyId))) {
+                changed.add(keyId);
+            }
+        });
+        return Set.copyOf(changed);
+    }
+
+    private static boolean sameSecret(SigningKey key, SigningKey other) {
+        return other != null && MessageDigest.isEqual(key.secretKey().getEncoded(), other.secretKey().getEncoded());
+    }
+
+    private static TokenKeyProperties load(Path path) throws IOException {
+        String fileName = path.getFileName().toString();
+        PropertySourceLoader loader = fileName.endsWith(".yml") || fileName.endsWith(".yaml")
+            ? new YamlPropertySourceLoader()
+            : new PropertiesPropertySourceLoader();
+        List<PropertySource<?>> sources = loader.load(fileName, new FileSystemResource(path));
+        return new Binder(ConfigurationPropertySources.from(sources))
+            .bind("token", TokenKeyProperties.class)
+            .orElseThrow(() -> new IllegalStateException("No token keys in " + path));
+    }
+
+    private Path path() {
+        String path = properties.getPath();
+        return path == null || path.isBlank() ? null : Path.of(path);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (reloadTask != null) {
+            reloadTask.cancel(false);
+        }
+    }
+
+    private record KeySet(SigningKey current, Map<String, SigningKey> byKeyId) {
+
+        static KeySet of(TokenKeyProperties tokenKeyProperties) {
+            Map<String, SigningKey> keys = new HashMap<>();
+            tokenKeyProperties.getKeys().values().forEach(key ->
+                keys.put(key.getId(), SigningKey.of(key.getId(), Decoders.BASE64.decode(key.getSecret()))));
+            SigningKey current = keys.get(tokenKeyProperties.getCurrentKeyId());
+            if (current == null) {
+                throw new IllegalStateException("Unknown current key id: " + tokenKeyProperties.getCurrentKeyId());
+            }
+            return new KeySet(current, Map.copyOf(keys));
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.forrrest.authservice.token;
+
+import java.util.Set;
+
+// 키 링이 새 키 집합으로 교체된 뒤 발행
+// changedKeyIds: 빠졌거나 시크릿이 바뀐 kid, currentKeyChanged: kid 없는 토큰을 검증하는 현재 키의 시크릿이 바뀌었는지
+public record SigningKeysReloadedEvent(Set<String> changedKeyIds, boolean currentKeyChanged) {
+}
@@ -0,0 +1,26 @@
+package com.forrrest.authservice.token;
+
+import java.time.Instant;
+import java.util.Map;
+
+import com.forrrest.common.security.token.TokenType;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 서명 검증을 마친 JWT 의 클레임 (한 번 파싱한 결과를 재사용)
+@Getter
+@Builder
+public class VerifiedToken {
+    private final String id;
+    private final String subject;
+    private final TokenType type;
+    private final Instant issuedAt;
+    private final Instant expiresAt;
+    private final String keyId;
+    private final Map<String, Object> claims;
+
+    public Object getClaim(String name) {
+        return claims.get(name);
+    }
+}
@@ -0,0 +1,33 @@
+package com.forrrest.authservice.utils.digest;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import com.forrrest.authservice.utils.pool.ThreadLocalPool;
+
+public class TokenDigest {
+
+    public static final int LENGTH = 32;
+
+    private static final ThreadLocalPool<MessageDigest> SHA_256 = new ThreadLocalPool<>(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    });
+
+    private TokenDigest() { /* Util 클래스이므로 인스턴스화 금지 */ }
+
+    // 토큰 원문 대신 고정 길이(32 byte) 다이제스트로 저장/조회
+    public static byte[] sha256(String token) {
+        MessageDigest digest = SHA_256.acquire();
+        try {
+            digest.reset();
+            return digest.digest(token.getBytes(StandardCharsets.US_ASCII));
+        } finally {
+            SHA_256.release(digest);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.forrrest.authservice.utils.pool;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 스레드별로 재사용하는 객체 (Mac, MessageDigest, 버퍼 등).
+ * 플랫폼 스레드는 ThreadLocal 에 하나씩 두고, 요청마다 새로 생기는 가상 스레드는 공용 풀에서 빌려 쓴다.
+ * 빌려 쓰는 구간은 블로킹 없이 CPU 만 사용하므로 동시에 필요한 개수는 캐리어 스레드 수를 넘지 않는다.
+ */
+public final class ThreadLocalPool<T> {
+
+    private final Supplier<T> factory;
+    private final ThreadLocal<T> local;
+    private final Queue<T> pool = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pooled = new AtomicInteger();
+    private final int maxPooled;
+
+    public ThreadLocalPool(Supplier<T> factory) {
+        this.factory = factory;
+        this.local = ThreadLocal.withInitial(factory);
+        this.maxPooled = Runtime.getRuntime().availableProcessors() * 2;
+    }
+
+    public T acquire() {
+        if (!Thread.currentThread().isVirtual()) {
+            return local.get();
+        }
+        T value = pool.poll();
+        if (value == null) {
+            return factory.get();
+        }
+        pooled.decrementAndGet();
+        return value;
+    }
+
+    // acquire 와 같은 스레드에서 호출
+    public void release(T value) {
+        if (!Thread.currentThread().isVirtual()) {
+            return;
+        }
+        if (pooled.incrementAndGet() <= maxPooled) {
+            pool.offer(value);
+        } else {
+            pooled.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.forrrest.authservice.utils.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * lock-free token bucket.
+ * capacity 개를 한 번에 허용하고 refillPeriod 동안 capacity 개가 다시 채워진다.
+ * 남은 토큰 수 대신 다음 토큰이 채워지는 이론적 시각(GCRA) 하나를 AtomicLong 으로 CAS 갱신한다.
+ */
+public class TokenBucket {
+
+    // 토큰 1개가 채워지는 데 걸리는 시간
+    private final long emissionIntervalNanos;
+    private final long refillPeriodNanos;
+    private final AtomicLong theoreticalArrivalNanos = new AtomicLong(Long.MIN_VALUE);
+
+    public TokenBucket(int capacity, Duration refillPeriod) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.refillPeriodNanos = refillPeriod.toNanos();
+        this.emissionIntervalNanos = Math.max(1, refillPeriodNanos / capacity);
+    }
+
+    // 토큰이 있으면 꺼내고 0, 없으면 다음 토큰까지 남은 시간(ns)
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long current = theoreticalArrivalNanos.get();
+            long next = Math.max(current, nowNanos) + emissionIntervalNanos;
+            long waitNanos = next - nowNanos - refillPeriodNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (theoreticalArrivalNanos.weakCompareAndSetVolatile(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
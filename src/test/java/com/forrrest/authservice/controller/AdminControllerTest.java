@@ -0,0 +1,145 @@
+package com.forrrest.authservice.controller;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.client.RestClient;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.forrrest.authservice.entity.User;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 실제 보안 필터와 토큰 발급을 거쳐 관리 API 권한을 확인한다 (부하 테스트용 인메모리 H2 설정을 그대로 쓴다).
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("loadtest")
+class AdminControllerTest {
+
+    private static final String PASSWORD = "password1!";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private RestClient.Builder restClientBuilder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private RestClient restClient;
+
+    @BeforeEach
+    void setUp() {
+        restClient = restClientBuilder
+            .baseUrl("http://localhost:" + port)
+            .defaultStatusHandler(status -> true, (request, response) -> { })
+            .build();
+        signup("admin@test.com");
+        signup("user@test.com");
+        // 관리자는 가입이 아니라 DB 에서 직접 지정한다
+        jdbcTemplate.update("update users set admin = true where email = ?", "admin@test.com");
+        entityManagerFactory.getCache().evict(User.class);
+    }
+
+    @Test
+    void importUsers_WithAdminToken_ShouldImport() {
+        // given
+        String accessToken = login("admin@test.com");
+
+        // when
+        ResponseEntity<String> response = importUsers(accessToken, "imported@test.com");
+
+        // then
+        assertThat(response.getStatusCode().value()).isEqualTo(200);
+        assertThat(login("imported@test.com")).isNotEmpty();
+    }
+
+    @Test
+    void importUsers_WithUserToken_ShouldBeForbidden() {
+        // given
+        String accessToken = login("user@test.com");
+
+        // when
+        ResponseEntity<String> response = importUsers(accessToken, "forbidden@test.com");
+
+        // then
+        assertThat(response.getStatusCode().value()).isEqualTo(403);
+    }
+
+    @Test
+    void exportUsers_WithAdminToken_ShouldExportAllUsers() {
+        // given
+        String accessToken = login("admin@test.com");
+
+        // when
+        ResponseEntity<String> response = restClient.get()
+            .uri("/admin/users/export")
+            .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+            .retrieve()
+            .toEntity(String.class);
+
+        // then
+        assertThat(response.getStatusCode().value()).isEqualTo(200);
+        assertThat(response.getBody()).contains("\"email\":\"admin@test.com\"", "\"email\":\"user@test.com\"");
+    }
+
+    @Test
+    void exportUsers_WithUserToken_ShouldBeForbidden() {
+        // given
+        String accessToken = login("user@test.com");
+
+        // when
+        ResponseEntity<Void> response = restClient.get()
+            .uri("/admin/users/export")
+            .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+            .retrieve()
+            .toBodilessEntity();
+
+        // then
+        assertThat(response.getStatusCode().value()).isEqualTo(403);
+    }
+
+    private ResponseEntity<String> importUsers(String accessToken, String email) {
+        return restClient.post()
+            .uri("/admin/users/import")
+            .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body("{\"email\":\"" + email + "\",\"username\":\"imported\",\"password\":\"" + PASSWORD + "\"}\n")
+            .retrieve()
+            .toEntity(String.class);
+    }
+
+    // 테스트마다 같은 컨텍스트(DB)를 쓰므로 이미 가입된 경우(409)도 그대로 진행
+    private void signup(String email) {
+        restClient.post()
+            .uri("/auth/signup")
+            .body(Map.of("email", email, "password", PASSWORD, "username", email.substring(0, email.indexOf('@'))))
+            .retrieve()
+            .toBodilessEntity();
+    }
+
+    private String login(String email) {
+        JsonNode body = restClient.post()
+            .uri("/auth/login")
+            .body(Map.of("email", email, "password", PASSWORD))
+            .retrieve()
+            .body(JsonNode.class);
+        return body.path("userToken").path("accessToken").asText();
+    }
+}
@@ -0,0 +1,37 @@
+package com.forrrest.authservice.dto.response;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+class ProfileResponseTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    @Test
+    void serialize_ShouldNotExposeDefaultFlag() throws Exception {
+        // given
+        ProfileResponse profile = ProfileResponse.builder()
+            .id(1L)
+            .name("Default Profile")
+            .isDefault(true)
+            .createdAt(LocalDateTime.now())
+            .updatedAt(LocalDateTime.now())
+            .build();
+
+        // when
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsString(profile));
+
+        // then
+        assertThat(json.get("id").asLong()).isEqualTo(1L);
+        assertThat(json.get("name").asText()).isEqualTo("Default Profile");
+        assertThat(json.has("default")).isFalse();
+        assertThat(json.has("isDefault")).isFalse();
+    }
+}
@@ -0,0 +1,157 @@
+package com.forrrest.authservice.loadtest;
+
+import java.net.HttpCookie;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestClient;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.forrrest.authservice.utils.cookies.CookieUtils;
+
+/**
+ * 실제 HTTP 로 API 를 호출하고 응답의 토큰/쿠키로 세션을 갱신한다.
+ * 4xx/5xx 도 예외 없이 상태 코드로 돌려준다.
+ */
+class LoadClient {
+
+    static final String PASSWORD = "loadtest1234!";
+
+    private final RestClient restClient;
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    LoadClient(RestClient.Builder builder, String baseUrl) {
+        this.restClient = builder
+            .baseUrl(baseUrl)
+            .defaultStatusHandler(status -> true, (request, response) -> { })
+            .build();
+    }
+
+    // 삭제할 프로필이 없으면 생성으로 바꿔 CREATE/DELETE 비율을 유지한다
+    LoadOperation resolve(LoadOperation operation, LoadSession session) {
+        if (operation == LoadOperation.DELETE_PROFILE && session.createdProfileIds.isEmpty()) {
+            return LoadOperation.CREATE_PROFILE;
+        }
+        return operation;
+    }
+
+    int execute(LoadOperation operation, LoadSession session) {
+        return switch (operation) {
+            case SIGNUP -> signup();
+            case LOGIN -> login(session);
+            case REFRESH -> refresh(session, null);
+            case REFRESH_WITH_PROFILE -> refresh(session, session.randomProfileId());
+            case LIST_PROFILES -> listProfiles(session);
+            case GET_PROFILE -> status(restClient.get()
+                .uri("/profiles/{id}", session.randomProfileId())
+                .header(HttpHeaders.AUTHORIZATION, bearer(session)));
+            case CREATE_PROFILE -> createProfile(session);
+            case DELETE_PROFILE -> deleteProfile(session);
+            case SELECT_PROFILE -> selectProfile(session);
+        };
+    }
+
+    private int signup() {
+        int n = sequence.incrementAndGet();
+        return status(restClient.post()
+            .uri("/auth/signup")
+            .body(Map.of(
+                "email", "signup" + n + "-" + System.nanoTime() + "@load.test",
+                "password", PASSWORD,
+                "username", "signup" + n)));
+    }
+
+    int login(LoadSession session) {
+        ResponseEntity<JsonNode> response = restClient.post()
+            .uri("/auth/login")
+            .body(Map.of("email", session.email, "password", PASSWORD))
+            .retrieve()
+            .toEntity(JsonNode.class);
+        updateTokens(session, response);
+        return response.getStatusCode().value();
+    }
+
+    private int refresh(LoadSession session, Long profileId) {
+        ResponseEntity<JsonNode> response = restClient.post()
+            .uri(builder -> builder.path("/auth/refresh")
+                .queryParamIfPresent("profileId", Optional.ofNullable(profileId))
+                .build())
+            .header(HttpHeaders.COOKIE, CookieUtils.COOKIE_NAME + "=" + session.refreshToken)
+            .retrieve()
+            .toEntity(JsonNode.class);
+        updateTokens(session, response);
+        return response.getStatusCode().value();
+    }
+
+    int listProfiles(LoadSession session) {
+        ResponseEntity<JsonNode> response = restClient.get()
+            .uri("/profiles")
+            .header(HttpHeaders.AUTHORIZATION, bearer(session))
+            .retrieve()
+            .toEntity(JsonNode.class);
+        // 조회/선택 대상은 시드 프로필로 고정 (생성 후 삭제되는 프로필 제외)
+        if (session.profileIds.isEmpty() && response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
+            response.getBody().get("profiles").forEach(profile -> session.profileIds.add(profile.get("id").asLong()));
+        }
+        return response.getStatusCode().value();
+    }
+
+    private int createProfile(LoadSession session) {
+        ResponseEntity<JsonNode> response = restClient.post()
+            .uri("/profiles")
+            .header(HttpHeaders.AUTHORIZATION, bearer(session))
+            .body(Map.of("name", "load" + sequence.incrementAndGet()))
+            .retrieve()
+            .toEntity(JsonNode.class);
+        if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
+            session.createdProfileIds.push(response.getBody().get("id").asLong());
+        }
+        return response.getStatusCode().value();
+    }
+
+    // 프로필 선택도 사용자 refresh token 을 새로 발급하지만 쿠키 없이 본문으로만 돌려준다
+    private int selectProfile(LoadSession session) {
+        ResponseEntity<JsonNode> response = restClient.patch()
+            .uri("/profiles/{id}/select", session.randomProfileId())
+            .header(HttpHeaders.AUTHORIZATION, bearer(session))
+            .retrieve()
+            .toEntity(JsonNode.class);
+        updateTokens(session, response);
+        return response.getStatusCode().value();
+    }
+
+    private int deleteProfile(LoadSession session) {
+        return status(restClient.delete()
+            .uri("/profiles/{id}", session.createdProfileIds.pop())
+            .header(HttpHeaders.AUTHORIZATION, bearer(session)));
+    }
+
+    private static String bearer(LoadSession session) {
+        return "Bearer " + session.accessToken;
+    }
+
+    private static int status(RestClient.RequestHeadersSpec<?> spec) {
+        return spec.retrieve().toBodilessEntity().getStatusCode().value();
+    }
+
+    private static void updateTokens(LoadSession session, ResponseEntity<JsonNode> response) {
+        if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
+            return;
+        }
+        JsonNode userToken = response.getBody().path("userToken");
+        session.accessToken = userToken.path("accessToken").asText();
+        session.refreshToken = userToken.path("refreshToken").asText(session.refreshToken);
+        List<String> cookies = response.getHeaders().getOrEmpty(HttpHeaders.SET_COOKIE);
+        for (String header : cookies) {
+            for (HttpCookie cookie : HttpCookie.parse(header)) {
+                if (CookieUtils.COOKIE_NAME.equals(cookie.getName())) {
+                    session.refreshToken = cookie.getValue();
+                }
+            }
+        }
+    }
+}
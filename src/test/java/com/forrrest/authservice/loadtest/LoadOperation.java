@@ -0,0 +1,14 @@
+package com.forrrest.authservice.loadtest;
+
+// 부하 테스트에서 호출하는 API 단위
+enum LoadOperation {
+    SIGNUP,
+    LOGIN,
+    REFRESH,
+    REFRESH_WITH_PROFILE,
+    LIST_PROFILES,
+    GET_PROFILE,
+    CREATE_PROFILE,
+    DELETE_PROFILE,
+    SELECT_PROFILE
+}
@@ -0,0 +1,52 @@
+package com.forrrest.authservice.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 요청 비율(가중치)로 정의한 트래픽 구성.
+ * 단일 API 시나리오는 요청당 SQL 수를 API 별로 보기 위한 것이고, MIXED 는 실제 서비스 비율에 가깝게 섞는다.
+ */
+enum LoadScenario {
+    LOGIN(Map.of(LoadOperation.LOGIN, 1)),
+    SIGNUP(Map.of(LoadOperation.SIGNUP, 1)),
+    REFRESH(Map.of(LoadOperation.REFRESH, 1, LoadOperation.REFRESH_WITH_PROFILE, 1)),
+    PROFILE_READ(Map.of(LoadOperation.LIST_PROFILES, 3, LoadOperation.GET_PROFILE, 1)),
+    PROFILE_WRITE(Map.of(LoadOperation.CREATE_PROFILE, 1, LoadOperation.DELETE_PROFILE, 1)),
+    SELECT_PROFILE(Map.of(LoadOperation.SELECT_PROFILE, 1)),
+    MIXED(Map.of(
+        LoadOperation.LOGIN, 10,
+        LoadOperation.SIGNUP, 1,
+        LoadOperation.REFRESH, 30,
+        LoadOperation.REFRESH_WITH_PROFILE, 10,
+        LoadOperation.LIST_PROFILES, 25,
+        LoadOperation.GET_PROFILE, 10,
+        LoadOperation.CREATE_PROFILE, 2,
+        LoadOperation.DELETE_PROFILE, 2,
+        LoadOperation.SELECT_PROFILE, 10));
+
+    private final LoadOperation[] operations;
+    private final int[] cumulativeWeights;
+
+    LoadScenario(Map<LoadOperation, Integer> weights) {
+        Map<LoadOperation, Integer> ordered = new EnumMap<>(weights);
+        this.operations = ordered.keySet().toArray(LoadOperation[]::new);
+        this.cumulativeWeights = new int[operations.length];
+        int sum = 0;
+        for (int i = 0; i < operations.length; i++) {
+            sum += ordered.get(operations[i]);
+            cumulativeWeights[i] = sum;
+        }
+    }
+
+    LoadOperation next() {
+        int value = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < operations.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        throw new IllegalStateException();
+    }
+}
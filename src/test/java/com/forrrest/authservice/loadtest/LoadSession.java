@@ -0,0 +1,25 @@
+package com.forrrest.authservice.loadtest;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 가상 사용자 1명의 로그인 상태 (세션마다 다른 사용자를 써서 프로필 변경이 겹치지 않게 한다)
+class LoadSession {
+
+    final String email;
+    String accessToken;
+    String refreshToken;
+    final List<Long> profileIds = new ArrayList<>();
+    final Deque<Long> createdProfileIds = new ArrayDeque<>();
+
+    LoadSession(String email) {
+        this.email = email;
+    }
+
+    Long randomProfileId() {
+        return profileIds.get(ThreadLocalRandom.current().nextInt(profileIds.size()));
+    }
+}
@@ -0,0 +1,247 @@
+package com.forrrest.authservice.loadtest;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.RestClient;
+
+import com.forrrest.authservice.entity.Profile;
+import com.forrrest.authservice.entity.User;
+import com.forrrest.authservice.repository.ProfileRepository;
+import com.forrrest.authservice.repository.UserRepository;
+import com.forrrest.authservice.service.PasswordHashService;
+import com.forrrest.authservice.service.RefreshTokenStore;
+
+/**
+ * 인메모리 H2(MySQL 모드) 위에 앱 전체를 띄우고 시나리오별 처리량, 지연 시간 분포, 요청당 SQL 수를 잰다.
+ * ./gradlew loadTest -Dload.users=1000 -Dload.profiles=3 -Dload.concurrency=32 -Dload.duration=20s
+ * (-Dload.scenarios=LOGIN,MIXED 처럼 일부만 실행 가능, 일반 test 태스크에서는 제외)
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("loadtest")
+@Import(LoadTest.StatementCounterConfig.class)
+class LoadTest {
+
+    private static final int SEED_CHUNK_SIZE = 500;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private RestClient.Builder restClientBuilder;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Autowired
+    private PasswordHashService passwordHashService;
+
+    @Autowired
+    private RefreshTokenStore refreshTokenStore;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    @TestConfiguration
+    static class StatementCounterConfig {
+
+        @Bean
+        static StatementCounter statementCounter() {
+            return new StatementCounter();
+        }
+    }
+
+    private record Settings(int users, int profiles, int concurrency, Duration warmup, Duration duration,
+                            List<LoadScenario> scenarios) {
+
+        static Settings fromSystemProperties() {
+            String scenarios = System.getProperty("load.scenarios", "");
+            return new Settings(
+                Integer.getInteger("load.users", 1000),
+                Integer.getInteger("load.profiles", 3),
+                Integer.getInteger("load.concurrency", 32),
+                DurationStyle.detectAndParse(System.getProperty("load.warmup", "5s")),
+                DurationStyle.detectAndParse(System.getProperty("load.duration", "20s")),
+                scenarios.isBlank()
+                    ? List.of(LoadScenario.values())
+                    : Arrays.stream(scenarios.split(",")).map(String::trim).map(LoadScenario::valueOf).toList());
+        }
+    }
+
+    private static class OperationStats {
+        final Recorder latency = new Recorder(3);
+        final LongAdder errors = new LongAdder();
+    }
+
+    @Test
+    void run() throws Exception {
+        Settings settings = Settings.fromSystemProperties();
+        assertThat(settings.users()).isGreaterThanOrEqualTo(settings.concurrency());
+
+        seed(settings);
+        LoadClient client = new LoadClient(restClientBuilder, "http://localhost:" + port);
+        List<LoadSession> sessions = new ArrayList<>();
+        for (int i = 0; i < settings.concurrency(); i++) {
+            LoadSession session = new LoadSession(email(i));
+            assertThat(client.login(session)).isEqualTo(200);
+            assertThat(client.listProfiles(session)).isEqualTo(200);
+            sessions.add(session);
+        }
+
+        System.out.printf("%nusers=%d, profiles/user=%d, concurrency=%d, warmup=%s, duration=%s%n",
+            settings.users(), settings.profiles(), settings.concurrency(), settings.warmup(), settings.duration());
+        for (LoadScenario scenario : settings.scenarios()) {
+            drive(client, scenario, sessions, settings.warmup(), null);
+
+            Map<LoadOperation, OperationStats> stats = new EnumMap<>(LoadOperation.class);
+            for (LoadOperation operation : LoadOperation.values()) {
+                stats.put(operation, new OperationStats());
+            }
+            // write-behind 로 미뤄진 refresh token 반영도 해당 시나리오의 SQL 로 센다
+            refreshTokenStore.flush();
+            long statementsBefore = statementCounter.count();
+            long start = System.nanoTime();
+            drive(client, scenario, sessions, settings.duration(), stats);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            refreshTokenStore.flush();
+            long statements = statementCounter.count() - statementsBefore;
+
+            report(scenario, stats, seconds, statements);
+        }
+    }
+
+    // 가상 스레드마다 세션 1개로 종료 시각까지 요청을 반복
+    private void drive(LoadClient client, LoadScenario scenario, List<LoadSession> sessions, Duration duration,
+        Map<LoadOperation, OperationStats> stats) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (LoadSession session : sessions) {
+                futures.add(executor.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        LoadOperation operation = client.resolve(scenario.next(), session);
+                        long begin = System.nanoTime();
+                        int status;
+                        try {
+                            status = client.execute(operation, session);
+                        } catch (RuntimeException e) {
+                            status = -1;
+                        }
+                        if (stats != null) {
+                            OperationStats operationStats = stats.get(operation);
+                            operationStats.latency.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - begin));
+                            if (status < 200 || status >= 300) {
+                                operationStats.errors.increment();
+                            }
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+    }
+
+    private void report(LoadScenario scenario, Map<LoadOperation, OperationStats> stats, double seconds,
+        long statements) {
+        Histogram total = new Histogram(3);
+        long totalErrors = 0;
+        StringBuilder rows = new StringBuilder();
+        for (Map.Entry<LoadOperation, OperationStats> entry : stats.entrySet()) {
+            Histogram histogram = entry.getValue().latency.getIntervalHistogram();
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            long errors = entry.getValue().errors.sum();
+            total.add(histogram);
+            totalErrors += errors;
+            rows.append(row(entry.getKey().name(), histogram, seconds, errors));
+        }
+
+        System.out.printf("%n== %s ==%n", scenario);
+        System.out.printf("throughput %.1f req/s, requests %d, errors %d, SQL statements/request %.2f%n",
+            total.getTotalCount() / seconds, total.getTotalCount(), totalErrors,
+            total.getTotalCount() == 0 ? 0.0 : (double) statements / total.getTotalCount());
+        System.out.printf("%-22s %8s %9s %8s %8s %8s %8s %8s %7s%n",
+            "operation", "count", "req/s", "p50", "p90", "p99", "p99.9", "max(ms)", "errors");
+        System.out.print(rows);
+        System.out.print(row("ALL", total, seconds, totalErrors));
+    }
+
+    private static String row(String name, Histogram histogram, double seconds, long errors) {
+        return String.format("%-22s %8d %9.1f %8.2f %8.2f %8.2f %8.2f %8.2f %7d%n",
+            name, histogram.getTotalCount(), histogram.getTotalCount() / seconds,
+            millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(90)),
+            millis(histogram.getValueAtPercentile(99)), millis(histogram.getValueAtPercentile(99.9)),
+            millis(histogram.getMaxValue()), errors);
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    // 가입 API 대신 저장소로 바로 넣는다 (BCrypt 는 같은 비밀번호로 한 번만)
+    private void seed(Settings settings) {
+        String encodedPassword = passwordHashService.encode(LoadClient.PASSWORD);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        for (int from = 0; from < settings.users(); from += SEED_CHUNK_SIZE) {
+            int to = Math.min(from + SEED_CHUNK_SIZE, settings.users());
+            int chunkFrom = from;
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = chunkFrom; i < to; i++) {
+                    User user = userRepository.save(User.builder()
+                        .email(email(i))
+                        .password(encodedPassword)
+                        .username("user" + i)
+                        .build());
+                    List<Profile> profiles = new ArrayList<>();
+                    for (int j = 0; j < settings.profiles(); j++) {
+                        profiles.add(Profile.builder()
+                            .user(user)
+                            .name("profile" + j)
+                            .isDefault(j == 0)
+                            .build());
+                    }
+                    profileRepository.saveAll(profiles);
+                }
+            });
+        }
+    }
+
+    private static String email(int i) {
+        return "user" + i + "@load.test";
+    }
+}
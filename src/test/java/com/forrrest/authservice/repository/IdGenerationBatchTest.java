@@ -0,0 +1,130 @@
+package com.forrrest.authservice.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.stream.IntStream;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.forrrest.authservice.entity.Profile;
+import com.forrrest.authservice.entity.User;
+import com.forrrest.authservice.entity.id.IdBlockAllocator;
+import com.forrrest.authservice.service.IdGeneratorTableMigration;
+
+/**
+ * User/Profile 의 @PooledId 와 application.yml 의 배치 설정(batch_size 50, order_inserts)을
+ * H2 인메모리 Hibernate 로 확인한다. 배치 하나는 prepareStatement 한 번으로 집계된다.
+ */
+class IdGenerationBatchTest {
+
+    private static final String URL = "jdbc:h2:mem:id-generation;DB_CLOSE_DELAY=-1;MODE=MySQL";
+
+    private SessionFactory sessionFactory;
+    private final DriverManagerDataSource dataSource = new DriverManagerDataSource(URL);
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        Configuration configuration = new Configuration()
+            .addAnnotatedClass(User.class)
+            .addAnnotatedClass(Profile.class)
+            .setPhysicalNamingStrategy(new CamelCaseToUnderscoresNamingStrategy())
+            .setProperty(AvailableSettings.JAKARTA_JDBC_URL, URL)
+            .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+            .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, "50")
+            .setProperty(AvailableSettings.ORDER_INSERTS, "true")
+            .setProperty(AvailableSettings.ORDER_UPDATES, "true")
+            .setProperty(AvailableSettings.GENERATE_STATISTICS, "true");
+        new IdGeneratorTableMigration(new JdbcTemplate(dataSource)).migrate();
+        configuration.getProperties().put(IdBlockAllocator.SETTING, new IdBlockAllocator(dataSource, 100));
+        sessionFactory = configuration.buildSessionFactory();
+        statistics = sessionFactory.getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessionFactory.close();
+        new JdbcTemplate(dataSource).execute("drop table id_generator");
+    }
+
+    @Test
+    void signup_ShouldDeferInsertsUntilFlushAndSendOneStatementPerTable() {
+        sessionFactory.inTransaction(session -> {
+            // given
+            User user = user("signup@test.com");
+            session.persist(user);
+            session.persist(profile(user, "Default Profile", true));
+            long statementsBeforeFlush = statistics.getPrepareStatementCount();
+
+            // when
+            assertThat(statistics.getEntityInsertCount()).isZero();
+            session.flush();
+
+            // then
+            assertThat(user.getId()).isNotNull();
+            assertThat(statistics.getEntityInsertCount()).isEqualTo(2);
+            assertThat(statistics.getPrepareStatementCount() - statementsBeforeFlush).isEqualTo(2);
+        });
+    }
+
+    @Test
+    void bulkInsert_ShouldGroupRowsIntoJdbcBatches() {
+        sessionFactory.inTransaction(session -> {
+            // given: profile 을 user 와 번갈아 저장해도 order_inserts 로 테이블별로 모인다
+            IntStream.range(0, 100).forEach(i -> {
+                User user = user("bulk" + i + "@test.com");
+                session.persist(user);
+                session.persist(profile(user, "Default Profile", true));
+            });
+            statistics.clear();
+
+            // when
+            session.flush();
+
+            // then: 테이블별 PreparedStatement 하나로 50개씩 배치 실행
+            assertThat(statistics.getEntityInsertCount()).isEqualTo(200);
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    void persist_ShouldAllocateIdsFromOneBlock() {
+        sessionFactory.inTransaction(session -> {
+            // given
+            statistics.clear();
+
+            // when
+            IntStream.range(0, 100).forEach(i -> session.persist(user("block" + i + "@test.com")));
+
+            // then: 블록 조회는 세션 밖 커넥션으로 한 번
+            assertThat(statistics.getPrepareStatementCount()).isZero();
+            assertThat(new JdbcTemplate(dataSource).queryForObject(
+                "select next_val from id_generator where name = 'users'", Long.class)).isEqualTo(101);
+        });
+    }
+
+    private static User user(String email) {
+        return User.builder()
+            .email(email)
+            .password("password")
+            .username("test")
+            .build();
+    }
+
+    private static Profile profile(User user, String name, boolean isDefault) {
+        return Profile.builder()
+            .user(user)
+            .name(name)
+            .isDefault(isDefault)
+            .build();
+    }
+}
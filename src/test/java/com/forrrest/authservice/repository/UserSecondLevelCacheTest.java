@@ -0,0 +1,91 @@
+package com.forrrest.authservice.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Optional;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.forrrest.authservice.entity.Profile;
+import com.forrrest.authservice.entity.User;
+import com.forrrest.authservice.entity.id.IdBlockAllocator;
+import com.forrrest.authservice.service.IdGeneratorTableMigration;
+
+/**
+ * application.yml 과 같은 2차 캐시 설정(jcache + Caffeine, application.conf 영역)으로
+ * loadByEmail 이 두 번째 세션부터 DB 를 거치지 않는지 H2 인메모리 Hibernate 로 확인한다.
+ */
+class UserSecondLevelCacheTest {
+
+    private static final String URL = "jdbc:h2:mem:user-cache;DB_CLOSE_DELAY=-1;MODE=MySQL";
+
+    private SessionFactory sessionFactory;
+    private final DriverManagerDataSource dataSource = new DriverManagerDataSource(URL);
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        Configuration configuration = new Configuration()
+            .addAnnotatedClass(User.class)
+            .addAnnotatedClass(Profile.class)
+            .setPhysicalNamingStrategy(new CamelCaseToUnderscoresNamingStrategy())
+            .setProperty(AvailableSettings.JAKARTA_JDBC_URL, URL)
+            .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+            .setProperty(AvailableSettings.USE_SECOND_LEVEL_CACHE, "true")
+            .setProperty(AvailableSettings.CACHE_REGION_FACTORY, "jcache")
+            .setProperty("hibernate.javax.cache.provider",
+                "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider")
+            .setProperty("hibernate.javax.cache.missing_cache_strategy", "fail")
+            .setProperty(AvailableSettings.GENERATE_STATISTICS, "true");
+        new IdGeneratorTableMigration(new JdbcTemplate(dataSource)).migrate();
+        configuration.getProperties().put(IdBlockAllocator.SETTING, new IdBlockAllocator(dataSource, 100));
+        sessionFactory = configuration.buildSessionFactory();
+        statistics = sessionFactory.getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessionFactory.close();
+        new JdbcTemplate(dataSource).execute("drop table id_generator");
+    }
+
+    @Test
+    void loadByEmail_InLaterSession_ShouldHitSecondLevelCache() {
+        // given
+        sessionFactory.inTransaction(session -> session.persist(User.builder()
+            .email("cache@test.com")
+            .password("password")
+            .username("test")
+            .build()));
+        sessionFactory.getCache().evictAllRegions();
+        assertThat(loadByEmail("cache@test.com")).isPresent();
+        statistics.clear();
+
+        // when
+        Optional<User> user = loadByEmail("cache@test.com");
+
+        // then
+        assertThat(user).map(User::getEmail).hasValue("cache@test.com");
+        assertThat(statistics.getNaturalIdCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    private Optional<User> loadByEmail(String email) {
+        return sessionFactory.fromTransaction(session -> {
+            UserRepositoryCustomImpl repository = new UserRepositoryCustomImpl();
+            ReflectionTestUtils.setField(repository, "entityManager", session);
+            return repository.loadByEmail(email);
+        });
+    }
+}
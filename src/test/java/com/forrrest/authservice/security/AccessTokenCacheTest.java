@@ -0,0 +1,152 @@
+package com.forrrest.authservice.security;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.security.core.Authentication;
+
+import com.forrrest.authservice.config.TokenCacheProperties;
+import com.forrrest.authservice.config.TokenDenylistProperties;
+import com.forrrest.authservice.exception.CustomException;
+import com.forrrest.authservice.exception.ErrorCode;
+import com.forrrest.authservice.token.JwtTokenVerifier;
+import com.forrrest.authservice.token.SigningKeysReloadedEvent;
+import com.forrrest.authservice.token.VerifiedToken;
+import com.forrrest.common.security.token.TokenType;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AccessTokenCacheTest {
+
+    private final JwtTokenVerifier jwtTokenVerifier = mock(JwtTokenVerifier.class);
+    private final TokenDenylist tokenDenylist = mock(TokenDenylist.class);
+    private AccessTokenCache accessTokenCache;
+
+    @BeforeEach
+    void setUp() {
+        accessTokenCache = new AccessTokenCache(jwtTokenVerifier, tokenDenylist, new TokenCacheProperties(),
+            new SimpleMeterRegistry());
+    }
+
+    @Test
+    void get_WithSameToken_ShouldVerifySignatureOnce() {
+        // given
+        when(jwtTokenVerifier.verify("accessToken", TokenType.USER_ACCESS)).thenReturn(verifiedToken());
+
+        // when
+        Authentication first = accessTokenCache.get("accessToken");
+        Authentication second = accessTokenCache.get("accessToken");
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(first.getName()).isEqualTo("test@test.com");
+        assertThat(first.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+        verify(jwtTokenVerifier, times(1)).verify("accessToken", TokenType.USER_ACCESS);
+    }
+
+    @Test
+    void get_AfterSubjectRevocation_ShouldRejectCachedToken() {
+        // given
+        TokenDenylistProperties denylistProperties = new TokenDenylistProperties();
+        denylistProperties.setLogPath("");
+        TokenDenylist denylist = new TokenDenylist(mock(TaskScheduler.class), denylistProperties,
+            new SimpleMeterRegistry());
+        accessTokenCache = new AccessTokenCache(jwtTokenVerifier, denylist, new TokenCacheProperties(),
+            new SimpleMeterRegistry());
+        VerifiedToken verifiedToken = verifiedToken();
+        when(jwtTokenVerifier.verify("accessToken", TokenType.USER_ACCESS)).thenReturn(verifiedToken);
+        accessTokenCache.get("accessToken");
+
+        // when
+        denylist.revokeSubject("test@test.com", verifiedToken.getIssuedAt().plusSeconds(1),
+            verifiedToken.getExpiresAt());
+
+        // then
+        assertThatThrownBy(() -> accessTokenCache.get("accessToken"))
+            .isInstanceOf(CustomException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_TOKEN);
+        verify(jwtTokenVerifier, times(1)).verify("accessToken", TokenType.USER_ACCESS);
+    }
+
+    @Test
+    void get_WithInvalidToken_ShouldNotCacheFailure() {
+        // given
+        when(jwtTokenVerifier.verify("invalidToken", TokenType.USER_ACCESS))
+            .thenThrow(new CustomException(ErrorCode.INVALID_TOKEN));
+
+        // when & then
+        assertThatThrownBy(() -> accessTokenCache.get("invalidToken")).isInstanceOf(CustomException.class);
+        assertThatThrownBy(() -> accessTokenCache.get("invalidToken")).isInstanceOf(CustomException.class);
+        verify(jwtTokenVerifier, times(2)).verify("invalidToken", TokenType.USER_ACCESS);
+    }
+
+    @Test
+    void get_WithRevokedCachedToken_ShouldThrowException() {
+        // given
+        VerifiedToken verifiedToken = verifiedToken();
+        when(jwtTokenVerifier.verify("accessToken", TokenType.USER_ACCESS)).thenReturn(verifiedToken);
+        accessTokenCache.get("accessToken");
+        when(tokenDenylist.isRevoked(verifiedToken)).thenReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> accessTokenCache.get("accessToken"))
+            .isInstanceOf(CustomException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_TOKEN);
+        verify(jwtTokenVerifier, times(1)).verify("accessToken", TokenType.USER_ACCESS);
+    }
+
+    @Test
+    void onSigningKeysReloaded_ShouldEvictOnlyTokensOfChangedKeys() {
+        // given
+        when(jwtTokenVerifier.verify("rotatedKeyToken", TokenType.USER_ACCESS)).thenReturn(verifiedToken("key_v1"));
+        when(jwtTokenVerifier.verify("unchangedKeyToken", TokenType.USER_ACCESS)).thenReturn(verifiedToken("key_v2"));
+        when(jwtTokenVerifier.verify("keylessToken", TokenType.USER_ACCESS)).thenReturn(verifiedToken(null));
+        List.of("rotatedKeyToken", "unchangedKeyToken", "keylessToken").forEach(accessTokenCache::get);
+
+        // when
+        accessTokenCache.onSigningKeysReloaded(new SigningKeysReloadedEvent(Set.of("key_v1"), false));
+        List.of("rotatedKeyToken", "unchangedKeyToken", "keylessToken").forEach(accessTokenCache::get);
+
+        // then
+        verify(jwtTokenVerifier, times(2)).verify("rotatedKeyToken", TokenType.USER_ACCESS);
+        verify(jwtTokenVerifier, times(1)).verify("unchangedKeyToken", TokenType.USER_ACCESS);
+        verify(jwtTokenVerifier, times(1)).verify("keylessToken", TokenType.USER_ACCESS);
+    }
+
+    @Test
+    void onSigningKeysReloaded_WithCurrentKeyChanged_ShouldEvictKeylessTokens() {
+        // given
+        when(jwtTokenVerifier.verify("keylessToken", TokenType.USER_ACCESS)).thenReturn(verifiedToken(null));
+        accessTokenCache.get("keylessToken");
+
+        // when
+        accessTokenCache.onSigningKeysReloaded(new SigningKeysReloadedEvent(Set.of(), true));
+        accessTokenCache.get("keylessToken");
+
+        // then
+        verify(jwtTokenVerifier, times(2)).verify("keylessToken", TokenType.USER_ACCESS);
+    }
+
+    private VerifiedToken verifiedToken() {
+        return verifiedToken(null);
+    }
+
+    private VerifiedToken verifiedToken(String keyId) {
+        return VerifiedToken.builder()
+            .keyId(keyId)
+            .subject("test@test.com")
+            .type(TokenType.USER_ACCESS)
+            .issuedAt(Instant.now())
+            .expiresAt(Instant.now().plusSeconds(3600))
+            .claims(Map.of("roles", List.of("USER")))
+            .build();
+    }
+}
@@ -0,0 +1,71 @@
+package com.forrrest.authservice.security;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import com.forrrest.authservice.config.RateLimitProperties;
+import com.forrrest.authservice.exception.RateLimitExceededException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RateLimitFilterTest {
+
+    private final HandlerExceptionResolver handlerExceptionResolver = mock(HandlerExceptionResolver.class);
+    private RateLimitFilter rateLimitFilter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties.Limit limit = new RateLimitProperties.Limit();
+        limit.setCapacity(1);
+        limit.setRefillPeriod(Duration.ofMinutes(1));
+        RateLimitProperties.Route login = new RateLimitProperties.Route();
+        login.setPath("/auth/login");
+        login.setIp(limit);
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getRoutes().put(RateLimiter.LOGIN, login);
+        rateLimitFilter = new RateLimitFilter(new RateLimiter(properties, new SimpleMeterRegistry()),
+            handlerExceptionResolver);
+    }
+
+    @Test
+    void doFilter_WithEncodedPath_ShouldShareLimitWithLoginRoute() throws Exception {
+        // given
+        rateLimitFilter.doFilter(post("/auth/login"), new MockHttpServletResponse(), new MockFilterChain());
+
+        // when
+        rateLimitFilter.doFilter(post("/auth/%6cogin"), new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        verify(handlerExceptionResolver).resolveException(any(), any(), isNull(),
+            any(RateLimitExceededException.class));
+    }
+
+    @Test
+    void doFilter_WithPathParameter_ShouldShareLimitWithLoginRoute() throws Exception {
+        // given
+        rateLimitFilter.doFilter(post("/auth/login"), new MockHttpServletResponse(), new MockFilterChain());
+
+        // when
+        rateLimitFilter.doFilter(post("/auth/login;jsessionid=abc"), new MockHttpServletResponse(),
+            new MockFilterChain());
+
+        // then
+        verify(handlerExceptionResolver).resolveException(any(), any(), isNull(),
+            any(RateLimitExceededException.class));
+    }
+
+    private static MockHttpServletRequest post(String requestUri) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", requestUri);
+        request.setRemoteAddr("10.0.0.1");
+        return request;
+    }
+}
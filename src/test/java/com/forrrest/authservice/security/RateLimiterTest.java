@@ -0,0 +1,90 @@
+package com.forrrest.authservice.security;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.forrrest.authservice.config.RateLimitProperties;
+import com.forrrest.authservice.exception.ErrorCode;
+import com.forrrest.authservice.exception.RateLimitExceededException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RateLimiterTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties.Route login = new RateLimitProperties.Route();
+        login.setPath("/auth/login");
+        login.setIp(limit(10));
+        login.setEmail(limit(3));
+        RateLimitProperties.Route refresh = new RateLimitProperties.Route();
+        refresh.setPath("/auth/refresh");
+        refresh.setIp(limit(2));
+
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getRoutes().put(RateLimiter.LOGIN, login);
+        properties.getRoutes().put(RateLimiter.REFRESH, refresh);
+        rateLimiter = new RateLimiter(properties, meterRegistry, nanos::get);
+    }
+
+    @Test
+    void checkEmail_OverCapacity_ShouldRejectWithRetryAfter() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.checkEmail(RateLimiter.LOGIN, "test@test.com");
+        }
+
+        // when & then
+        assertThatThrownBy(() -> rateLimiter.checkEmail(RateLimiter.LOGIN, " Test@Test.com "))
+            .isInstanceOf(RateLimitExceededException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.TOO_MANY_REQUESTS)
+            .hasFieldOrPropertyWithValue("retryAfterSeconds", 20L);
+        rateLimiter.checkEmail(RateLimiter.LOGIN, "other@test.com");
+        assertThat(meterRegistry.get("auth.rate.limit.rejected").tag("route", "login").tag("key", "email")
+            .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void checkIp_AfterRefill_ShouldAllowAgain() {
+        // given
+        rateLimiter.checkIp(RateLimiter.REFRESH, "10.0.0.1");
+        rateLimiter.checkIp(RateLimiter.REFRESH, "10.0.0.1");
+        assertThatThrownBy(() -> rateLimiter.checkIp(RateLimiter.REFRESH, "10.0.0.1"))
+            .isInstanceOf(RateLimitExceededException.class);
+
+        // when
+        nanos.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        // then
+        rateLimiter.checkIp(RateLimiter.REFRESH, "10.0.0.1");
+        assertThatThrownBy(() -> rateLimiter.checkIp(RateLimiter.REFRESH, "10.0.0.1"))
+            .isInstanceOf(RateLimitExceededException.class);
+    }
+
+    @Test
+    void check_WithoutConfiguredLimit_ShouldNotReject() {
+        // when & then
+        for (int i = 0; i < 100; i++) {
+            rateLimiter.checkEmail(RateLimiter.REFRESH, "test@test.com");
+            rateLimiter.checkIp(RateLimiter.SIGNUP, "10.0.0.1");
+        }
+        assertThat(rateLimiter.routeOf("/auth/login")).isEqualTo(RateLimiter.LOGIN);
+        assertThat(rateLimiter.routeOf("/auth/signup")).isNull();
+    }
+
+    private static RateLimitProperties.Limit limit(int capacity) {
+        RateLimitProperties.Limit limit = new RateLimitProperties.Limit();
+        limit.setCapacity(capacity);
+        limit.setRefillPeriod(Duration.ofMinutes(1));
+        return limit;
+    }
+}
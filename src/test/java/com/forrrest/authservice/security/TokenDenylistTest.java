@@ -0,0 +1,144 @@
+package com.forrrest.authservice.security;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.scheduling.TaskScheduler;
+
+import com.forrrest.authservice.config.TokenDenylistProperties;
+import com.forrrest.authservice.token.VerifiedToken;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TokenDenylistTest {
+
+    @TempDir
+    Path tempDir;
+
+    private TokenDenylistProperties properties;
+    private TokenDenylist tokenDenylist;
+
+    @BeforeEach
+    void setUp() {
+        properties = new TokenDenylistProperties();
+        properties.setLogPath(tempDir.resolve("token-denylist.log").toString());
+        tokenDenylist = start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        tokenDenylist.shutdown();
+    }
+
+    @Test
+    void isRevoked_WithRevokedTokenId_ShouldReturnTrue() {
+        // given
+        VerifiedToken revoked = token("jti-1", "test@test.com", Instant.now().minusSeconds(10));
+        VerifiedToken other = token("jti-2", "test@test.com", Instant.now().minusSeconds(10));
+
+        // when
+        tokenDenylist.revoke(revoked);
+
+        // then
+        assertThat(tokenDenylist.isRevoked(revoked)).isTrue();
+        assertThat(tokenDenylist.isRevoked(other)).isFalse();
+    }
+
+    @Test
+    void isRevoked_WithSubjectRevocation_ShouldRejectOnlyTokensIssuedBefore() {
+        // given
+        Instant revokedAt = Instant.now();
+        VerifiedToken before = token("jti-1", "test@test.com", revokedAt.minusSeconds(60));
+        VerifiedToken after = token("jti-2", "test@test.com", revokedAt.plusSeconds(60));
+        VerifiedToken otherUser = token("jti-3", "other@test.com", revokedAt.minusSeconds(60));
+
+        // when
+        tokenDenylist.revokeSubject("test@test.com", revokedAt, revokedAt.plus(Duration.ofDays(7)));
+
+        // then
+        assertThat(tokenDenylist.isRevoked(before)).isTrue();
+        assertThat(tokenDenylist.isRevoked(after)).isFalse();
+        assertThat(tokenDenylist.isRevoked(otherUser)).isFalse();
+    }
+
+    @Test
+    void isRevoked_WithTokensIssuedInRevocationSecond_ShouldUseRevocationClaim() {
+        // given: 폐기와 같은 초에 폐기 전 발급된 토큰과 로그아웃 직후 다시 로그인한 토큰
+        Instant revokedAt = Instant.ofEpochSecond(Instant.now().getEpochSecond(), 300_000_000);
+        Instant sameSecond = Instant.ofEpochSecond(revokedAt.getEpochSecond());
+        VerifiedToken issuedBefore = token("jti-1", "test@test.com", sameSecond);
+
+        // when
+        tokenDenylist.revokeSubject("test@test.com", revokedAt, revokedAt.plus(Duration.ofDays(7)));
+        VerifiedToken relogin = token("jti-2", "test@test.com", sameSecond,
+            tokenDenylist.revocationOf("test@test.com"));
+
+        // then
+        assertThat(tokenDenylist.isRevoked(issuedBefore)).isTrue();
+        assertThat(tokenDenylist.isRevoked(relogin)).isFalse();
+    }
+
+    @Test
+    void revokeSubject_InSameMillisecond_ShouldRejectTokensIssuedAfterPreviousRevocation() {
+        // given
+        Instant revokedAt = Instant.now();
+        tokenDenylist.revokeSubject("1", revokedAt, revokedAt.plus(Duration.ofDays(7)));
+        VerifiedToken issuedBetween = token("jti-1", "1", revokedAt, tokenDenylist.revocationOf("1"));
+
+        // when
+        tokenDenylist.revokeSubject("1", revokedAt, revokedAt.plus(Duration.ofDays(7)));
+
+        // then
+        assertThat(tokenDenylist.isRevoked(issuedBetween)).isTrue();
+    }
+
+    @Test
+    void start_ShouldRestoreRevocationsFromLog() {
+        // given
+        VerifiedToken revoked = token("jti-1", "test@test.com", Instant.now().minusSeconds(60));
+        tokenDenylist.revoke(revoked);
+        tokenDenylist.revokeSubject("other@test.com", Instant.now(), Instant.now().plus(Duration.ofDays(7)));
+        tokenDenylist.shutdown();
+
+        // when
+        tokenDenylist = start();
+
+        // then
+        assertThat(tokenDenylist.isRevoked(revoked)).isTrue();
+        assertThat(tokenDenylist.isRevoked(token("jti-2", "other@test.com", Instant.now().minusSeconds(60))))
+            .isTrue();
+    }
+
+    private TokenDenylist start() {
+        TokenDenylist denylist = new TokenDenylist(mock(TaskScheduler.class), properties, new SimpleMeterRegistry());
+        denylist.start();
+        return denylist;
+    }
+
+    private static VerifiedToken token(String id, String subject, Instant issuedAt) {
+        return token(id, subject, issuedAt, Map.of());
+    }
+
+    private static VerifiedToken token(String id, String subject, Instant issuedAt, long revokedAt) {
+        return token(id, subject, issuedAt, Map.of(TokenDenylist.REVOCATION_CLAIM, revokedAt));
+    }
+
+    private static VerifiedToken token(String id, String subject, Instant issuedAt, Map<String, Object> claims) {
+        return VerifiedToken.builder()
+            .id(id)
+            .subject(subject)
+            .issuedAt(issuedAt)
+            .expiresAt(Instant.now().plusSeconds(3600))
+            .claims(claims)
+            .build();
+    }
+}
@@ -3,22 +3,24 @@ package com.forrrest.authservice.service;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
 import com.forrrest.authservice.dto.request.LoginRequest;
+import com.forrrest.authservice.dto.request.RefreshTokenRequest;
 import com.forrrest.authservice.dto.response.AuthResponse;
 import com.forrrest.authservice.dto.response.ProfileResponse;
 import com.forrrest.authservice.dto.response.TokenInfo;
-import com.forrrest.authservice.entity.Profile;
 import com.forrrest.authservice.entity.User;
 import com.forrrest.authservice.exception.CustomException;
 import com.forrrest.authservice.exception.ErrorCode;
-import com.forrrest.authservice.repository.RefreshTokenRepository;
+import com.forrrest.authservice.token.VerifiedToken;
+import com.forrrest.common.security.token.TokenType;
 
 @ExtendWith(MockitoExtension.class)
 class AuthServiceTest {
@@ -29,9 +31,9 @@ class AuthServiceTest {
     @Mock
     private TokenService tokenService;
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashService passwordHashService;
     @Mock
-    private RefreshTokenRepository refreshTokenRepository;
+    private RefreshTokenStore refreshTokenStore;
 
     @InjectMocks
     private AuthService authService;
@@ -45,20 +47,19 @@ class AuthServiceTest {
             .username("Test username")
             .password("encodedPassword")
             .build();
-        Profile defaultProfile = Profile.builder()
+        ProfileResponse defaultProfile = ProfileResponse.builder()
             .id(1L)
-            .user(user)
             .name("Default")
             .isDefault(true)
             .build();
         AuthResponse expectedResponse = AuthResponse.builder()
             .userToken(new TokenInfo("userAccessToken", "userRefreshToken", "Bearer", 3600000L))
             .profileToken(new TokenInfo("profileAccessToken", "profileRefreshToken", "Bearer", 3600000L))
-            .profileResponse(ProfileResponse.from(defaultProfile))
+            .profileResponse(defaultProfile)
             .build();
 
         when(userService.getUserByEmail(request.getEmail())).thenReturn(user);
-        when(passwordEncoder.matches(request.getPassword(), user.getPassword())).thenReturn(true);
+        when(passwordHashService.matches(request.getPassword(), user.getPassword())).thenReturn(true);
         when(profileService.getDefaultProfile(user)).thenReturn(defaultProfile);
         when(tokenService.createAuthResponse(user, defaultProfile)).thenReturn(expectedResponse);
 
@@ -79,7 +80,7 @@ class AuthServiceTest {
             .build();
 
         when(userService.getUserByEmail(request.getEmail())).thenReturn(user);
-        when(passwordEncoder.matches(request.getPassword(), user.getPassword())).thenReturn(false);
+        when(passwordHashService.matches(request.getPassword(), user.getPassword())).thenReturn(false);
 
         // when & then
         assertThatThrownBy(() -> authService.login(request))
@@ -87,5 +88,115 @@ class AuthServiceTest {
             .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_PASSWORD);
     }
 
+    @Test
+    void login_WithOutdatedPasswordHash_ShouldRehashPassword() {
+        // given
+        LoginRequest request = new LoginRequest("test@test.com", "password");
+        User user = User.builder()
+            .email("test@test.com")
+            .username("Test username")
+            .password("legacyEncodedPassword")
+            .build();
+        ProfileResponse defaultProfile = ProfileResponse.builder()
+            .id(1L)
+            .name("Default")
+            .isDefault(true)
+            .build();
+
+        when(userService.getUserByEmail(request.getEmail())).thenReturn(user);
+        when(passwordHashService.matches(request.getPassword(), "legacyEncodedPassword")).thenReturn(true);
+        when(passwordHashService.upgradeEncoding("legacyEncodedPassword")).thenReturn(true);
+        when(passwordHashService.encode(request.getPassword())).thenReturn("{bcrypt}upgradedPassword");
+        when(profileService.getDefaultProfile(user)).thenReturn(defaultProfile);
+
+        // when
+        authService.login(request);
+
+        // then
+        assertThat(user.getPassword()).isEqualTo("{bcrypt}upgradedPassword");
+    }
+
+    @Test
+    void refreshToken_WithStaleRefreshToken_ShouldThrowException() {
+        // given
+        RefreshTokenRequest request = new RefreshTokenRequest("refreshToken");
+
+        when(tokenService.verifyToken("refreshToken", TokenType.USER_REFRESH))
+            .thenReturn(VerifiedToken.builder().subject("test@test.com").type(TokenType.USER_REFRESH).build());
+        when(refreshTokenStore.isCurrent("test@test.com", "refreshToken")).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> authService.refreshToken(request, null))
+            .isInstanceOf(CustomException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_TOKEN);
+        verify(userService, never()).getUserByEmail(anyString());
+    }
+
+    @Test
+    void refreshToken_WithoutProfileId_ShouldRefreshWithDefaultProfile() {
+        // given
+        RefreshTokenRequest request = new RefreshTokenRequest("refreshToken");
+        VerifiedToken verifiedToken = VerifiedToken.builder()
+            .subject("test@test.com")
+            .type(TokenType.USER_REFRESH)
+            .build();
+        User user = User.builder()
+            .email("test@test.com")
+            .username("Test username")
+            .build();
+        ProfileResponse defaultProfile = ProfileResponse.builder()
+            .id(1L)
+            .name("Default")
+            .isDefault(true)
+            .build();
+        AuthResponse expectedResponse = AuthResponse.builder()
+            .userToken(new TokenInfo("userAccessToken", "refreshToken", "Bearer", 3600000L))
+            .profileResponse(defaultProfile)
+            .build();
+
+        when(tokenService.verifyToken("refreshToken", TokenType.USER_REFRESH)).thenReturn(verifiedToken);
+        when(refreshTokenStore.isCurrent("test@test.com", "refreshToken")).thenReturn(true);
+        when(userService.getUserByEmail("test@test.com")).thenReturn(user);
+        when(profileService.getDefaultProfile(user)).thenReturn(defaultProfile);
+        when(tokenService.refreshAuthResponse(user, defaultProfile, verifiedToken, "refreshToken"))
+            .thenReturn(expectedResponse);
+
+        // when
+        AuthResponse response = authService.refreshToken(request, null);
+
+        // then
+        assertThat(response).isEqualTo(expectedResponse);
+    }
+
+    @Test
+    void logout_WithValidRefreshToken_ShouldRevokeAllUserTokens() {
+        // given
+        VerifiedToken verifiedToken = VerifiedToken.builder()
+            .id("jti")
+            .subject("test@test.com")
+            .type(TokenType.USER_REFRESH)
+            .build();
+        when(tokenService.verifyToken("refreshToken", TokenType.USER_REFRESH)).thenReturn(verifiedToken);
+        when(profileService.getProfileIds("test@test.com")).thenReturn(List.of(1L, 2L));
+
+        // when
+        authService.logout("refreshToken", null);
+
+        // then
+        verify(tokenService).revokeToken(verifiedToken);
+        verify(tokenService).revokeTokens("test@test.com", List.of(1L, 2L));
+    }
+
+    @Test
+    void logout_WithExpiredRefreshToken_ShouldOnlyClearCookie() {
+        // given
+        when(tokenService.verifyToken("refreshToken", TokenType.USER_REFRESH))
+            .thenThrow(new CustomException(ErrorCode.EXPIRED_TOKEN));
+
+        // when
+        authService.logout("refreshToken", null);
 
+        // then
+        verify(tokenService, never()).revokeTokens(anyString(), any());
+    }
 }
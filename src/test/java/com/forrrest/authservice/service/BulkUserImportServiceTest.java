@@ -0,0 +1,111 @@
+package com.forrrest.authservice.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.forrrest.authservice.config.BulkImportProperties;
+import com.forrrest.authservice.dto.response.BulkImportEvent;
+import com.forrrest.authservice.entity.User;
+import com.forrrest.authservice.repository.ProfileRepository;
+import com.forrrest.authservice.repository.UserRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+
+class BulkUserImportServiceTest {
+
+    private static final String BCRYPT_HASH = "$2a$10$N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy";
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final ProfileRepository profileRepository = mock(ProfileRepository.class);
+    private final EmailExistenceFilter emailExistenceFilter = mock(EmailExistenceFilter.class);
+    private final PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+    private final BulkImportProperties properties = new BulkImportProperties();
+    private final List<BulkImportEvent> events = new ArrayList<>();
+    private BulkUserImportService bulkUserImportService;
+
+    @BeforeEach
+    void setUp() {
+        properties.setBatchSize(2);
+        properties.setHashPoolSize(2);
+        bulkUserImportService = new BulkUserImportService(userRepository, profileRepository, emailExistenceFilter,
+            passwordEncoder, Validation.buildDefaultValidatorFactory().getValidator(), new ObjectMapper(),
+            mock(PlatformTransactionManager.class), properties, new SimpleMeterRegistry());
+        when(passwordEncoder.encode(anyString())).thenAnswer(invocation -> "{bcrypt}hash-" + invocation.getArgument(0));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        bulkUserImportService.shutdown();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void importUsers_WithNdjson_ShouldSkipInvalidAndDuplicateRows() {
+        // given
+        properties.setBatchSize(10);
+        String body = """
+            {"email":"a@test.com","username":"a","password":"password1!"}
+            {"email":"existing@test.com","username":"b","password":"password1!"}
+            not json
+            {"email":"A@test.com","username":"a2","password":"password1!"}
+            {"email":"c@test.com","username":"c","password":"short"}
+            {"email":"d@test.com","username":"d","passwordHash":"%s"}
+            """.formatted(BCRYPT_HASH);
+        when(emailExistenceFilter.mightExist(anyString())).thenAnswer(invocation -> invocation.getArgument(0).equals("existing@test.com"));
+        when(userRepository.findEmailsIn(List.of("existing@test.com"))).thenReturn(List.of("existing@test.com"));
+
+        // when
+        BulkImportEvent summary = bulkUserImportService.importUsers(BulkImportFormat.NDJSON, new StringReader(body), events::add);
+
+        // then
+        assertThat(summary.getProcessed()).isEqualTo(6);
+        assertThat(summary.getImported()).isEqualTo(2);
+        assertThat(summary.getFailed()).isEqualTo(4);
+        assertThat(events).filteredOn(event -> event.getType() == BulkImportEvent.Type.ERROR)
+            .extracting(BulkImportEvent::getLine, BulkImportEvent::getCode)
+            .containsExactlyInAnyOrder(tuple(2L, "U001"), tuple(3L, "C001"), tuple(4L, "U001"), tuple(5L, "C001"));
+        assertThat(events).filteredOn(event -> event.getType() == BulkImportEvent.Type.PROGRESS).hasSize(1);
+
+        ArgumentCaptor<List<User>> users = ArgumentCaptor.forClass(List.class);
+        verify(userRepository).saveAll(users.capture());
+        assertThat(users.getAllValues()).flatExtracting(batch -> batch)
+            .extracting(User::getEmail, User::getPassword)
+            .containsExactly(tuple("a@test.com", "{bcrypt}hash-password1!"), tuple("d@test.com", "{bcrypt}" + BCRYPT_HASH));
+        verify(passwordEncoder, times(1)).encode(anyString());
+        verify(profileRepository).saveAll(anyList());
+    }
+
+    @Test
+    void importUsers_WithCsv_ShouldReadQuotedValuesByHeader() {
+        // given
+        String body = """
+            username,email,password
+            "Kim, Minsu",kim@test.com,"pass""word1"
+            lee,lee@test.com,password1!
+            """;
+
+        // when
+        BulkImportEvent summary = bulkUserImportService.importUsers(BulkImportFormat.CSV, new StringReader(body), events::add);
+
+        // then: 두 번째 줄은 비밀번호 형식 오류, 세 번째 줄만 등록
+        assertThat(summary.getImported()).isEqualTo(1);
+        assertThat(events).filteredOn(event -> event.getType() == BulkImportEvent.Type.ERROR)
+            .extracting(BulkImportEvent::getLine, BulkImportEvent::getEmail)
+            .containsExactly(tuple(2L, "kim@test.com"));
+        verify(passwordEncoder).encode("password1!");
+    }
+}
@@ -0,0 +1,110 @@
+package com.forrrest.authservice.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.forrrest.authservice.config.EmailFilterProperties;
+import com.forrrest.authservice.repository.UserRepository;
+import com.forrrest.authservice.repository.projection.UserEmailView;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class EmailExistenceFilterTest {
+
+    private static final LocalDateTime SYNC_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 18, 12, 0);
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final TaskScheduler taskScheduler = mock(TaskScheduler.class);
+    private final EmailFilterProperties properties = new EmailFilterProperties();
+    private EmailExistenceFilter emailExistenceFilter;
+
+    @BeforeEach
+    void setUp() {
+        properties.setExpectedInsertions(1_000);
+        properties.setSnapshotPath("");
+        properties.setSyncPageSize(2);
+        properties.setSyncOverlap(Duration.ofMinutes(5));
+        emailExistenceFilter = new EmailExistenceFilter(userRepository, mock(PlatformTransactionManager.class),
+            taskScheduler, properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void initialize_ShouldLoadAllPagesBeforeShortCircuiting() {
+        // given
+        when(userRepository.findEmailsCreatedAfter(SYNC_START.minusMinutes(5), 0L, PageRequest.of(0, 2)))
+            .thenReturn(List.of(row(1L, "a@test.com", NOW), row(2L, "b@test.com", NOW)));
+        when(userRepository.findEmailsCreatedAfter(NOW, 2L, PageRequest.of(0, 2)))
+            .thenReturn(List.of(row(3L, "Straße@Test.com", NOW.plusSeconds(1))));
+        assertThat(emailExistenceFilter.mightExist("unknown@test.com")).isTrue();
+
+        // when
+        emailExistenceFilter.initialize();
+
+        // then
+        assertThat(emailExistenceFilter.mightExist("b@test.com")).isTrue();
+        assertThat(emailExistenceFilter.mightExist("STRASSE@test.com")).isTrue();
+        assertThat(emailExistenceFilter.mightExist("unknown@test.com")).isFalse();
+    }
+
+    @Test
+    void sync_ShouldAddUsersCreatedByOtherInstancesWithLowerIds() {
+        // given
+        // 다른 인스턴스가 먼저 받아 둔 블록의 id 1 로 나중에 가입시킨 사용자도 가입 시각 기준으로 보인다
+        when(userRepository.findEmailsCreatedAfter(SYNC_START.minusMinutes(5), 0L, PageRequest.of(0, 2)))
+            .thenReturn(List.of(row(101L, "a@test.com", NOW)));
+        when(userRepository.findEmailsCreatedAfter(NOW.minusMinutes(5), 0L, PageRequest.of(0, 2)))
+            .thenReturn(List.of(row(101L, "a@test.com", NOW), row(1L, "new@test.com", NOW.plusSeconds(10))));
+        when(userRepository.findEmailsCreatedAfter(NOW.plusSeconds(10), 1L, PageRequest.of(0, 2)))
+            .thenReturn(List.of());
+        emailExistenceFilter.initialize();
+        ArgumentCaptor<Runnable> syncTask = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler).scheduleWithFixedDelay(syncTask.capture(), any(Duration.class));
+
+        // when
+        syncTask.getValue().run();
+
+        // then
+        assertThat(emailExistenceFilter.mightExist("new@test.com")).isTrue();
+        verify(userRepository).findEmailsCreatedAfter(NOW.minusMinutes(5), 0L, PageRequest.of(0, 2));
+    }
+
+    @Test
+    void normalize_ShouldFoldCharactersTheCollationTreatsAsEqual() {
+        // when & then
+        assertThat(EmailExistenceFilter.normalize(" Ærø.Œuvre@Test.com "))
+            .isEqualTo(EmailExistenceFilter.normalize("aero.oeuvre@test.com"));
+        assertThat(EmailExistenceFilter.normalize("José@test.com")).isEqualTo("jose@test.com");
+    }
+
+    private static UserEmailView row(Long id, String email, LocalDateTime createdAt) {
+        return new UserEmailView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getEmail() {
+                return email;
+            }
+
+            @Override
+            public LocalDateTime getCreatedAt() {
+                return createdAt;
+            }
+        };
+    }
+}
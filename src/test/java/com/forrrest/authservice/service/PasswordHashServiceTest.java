@@ -0,0 +1,77 @@
+package com.forrrest.authservice.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.forrrest.authservice.config.PasswordHashProperties;
+import com.forrrest.authservice.exception.ServiceBusyException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PasswordHashServiceTest {
+
+    private final PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PasswordHashService passwordHashService;
+
+    @AfterEach
+    void tearDown() {
+        passwordHashService.shutdown();
+    }
+
+    @Test
+    void matches_ShouldDelegateToPasswordEncoder() {
+        // given
+        passwordHashService = new PasswordHashService(passwordEncoder, new PasswordHashProperties(), meterRegistry);
+        when(passwordEncoder.matches("password", "encodedPassword")).thenReturn(true);
+
+        // when & then
+        assertThat(passwordHashService.matches("password", "encodedPassword")).isTrue();
+        assertThat(meterRegistry.get("auth.password.hash.duration")
+            .tag("operation", "verify")
+            .tag("outcome", "match")
+            .timer().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    void encode_WhenQueueIsFull_ShouldThrowServiceBusyException() throws Exception {
+        // given
+        PasswordHashProperties properties = new PasswordHashProperties();
+        properties.setPoolSize(1);
+        properties.setQueueCapacity(1);
+        passwordHashService = new PasswordHashService(passwordEncoder, properties, meterRegistry);
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(passwordEncoder.encode(anyString())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return "encoded";
+        });
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> passwordHashService.encode("a"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> passwordHashService.encode("b"));
+        while (meterRegistry.get("auth.password.hash.queue.size").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        // when & then
+        assertThatThrownBy(() -> passwordHashService.encode("c"))
+            .isInstanceOf(ServiceBusyException.class);
+        assertThat(meterRegistry.get("auth.password.hash.rejected").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("encoded");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("encoded");
+    }
+}
@@ -0,0 +1,34 @@
+package com.forrrest.authservice.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.forrrest.authservice.config.ProfileCacheProperties;
+import com.forrrest.authservice.dto.response.ProfileResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ProfileCacheTest {
+
+    private final ProfileCache profileCache = new ProfileCache(new ProfileCacheProperties(), new SimpleMeterRegistry());
+
+    @Test
+    void get_AfterLoaderError_ShouldLoadAgainInsteadOfWaiting() {
+        // given
+        assertThatThrownBy(() -> profileCache.get("test@test.com", () -> {
+            throw new StackOverflowError();
+        })).isInstanceOf(StackOverflowError.class);
+
+        // when
+        List<ProfileResponse> profiles = assertTimeoutPreemptively(Duration.ofSeconds(5),
+            () -> profileCache.get("test@test.com", () -> List.of(ProfileResponse.builder().id(1L).build())));
+
+        // then
+        assertThat(profiles).extracting(ProfileResponse::getId).containsExactly(1L);
+    }
+}
@@ -1,17 +1,25 @@
 package com.forrrest.authservice.service;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import com.forrrest.authservice.config.ProfileCacheProperties;
+import com.forrrest.authservice.config.ProfilePageProperties;
 import com.forrrest.authservice.dto.response.AuthResponse;
+import com.forrrest.authservice.dto.response.ProfilePageResponse;
 import com.forrrest.authservice.dto.response.ProfileResponse;
 import com.forrrest.authservice.dto.response.TokenInfo;
 import com.forrrest.authservice.entity.Profile;
@@ -22,6 +30,8 @@ import com.forrrest.authservice.repository.ProfileRepository;
 import com.forrrest.common.security.config.TokenProperties;
 import com.forrrest.common.security.token.JwtTokenProvider;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @ExtendWith(MockitoExtension.class)
 class ProfileServiceTest {
     @Mock
@@ -34,6 +44,10 @@ class ProfileServiceTest {
     private TokenProperties tokenProperties;
     @Mock
     private TokenService tokenService;
+    @Spy
+    private ProfileCache profileCache = new ProfileCache(new ProfileCacheProperties(), new SimpleMeterRegistry());
+    @Spy
+    private ProfilePageProperties profilePageProperties = new ProfilePageProperties();
 
     @InjectMocks
     private ProfileService profileService;
@@ -58,9 +72,9 @@ class ProfileServiceTest {
             .profileResponse(ProfileResponse.from(profile))
             .build();
 
-        when(userService.getUserByEmail(email)).thenReturn(user);
-        when(profileRepository.findByIdAndUser(profileId, user)).thenReturn(Optional.of(profile));
-        when(tokenService.createAuthResponse(user, profile)).thenReturn(expectedResponse);
+        when(profileRepository.findWithUserByIdAndUserEmail(profileId, email)).thenReturn(Optional.of(profile));
+        when(tokenService.createAuthResponse(eq(user), argThat(response -> response.getId().equals(profileId))))
+            .thenReturn(expectedResponse);
 
         // when
         AuthResponse response = profileService.selectProfile(email, profileId);
@@ -74,18 +88,162 @@ class ProfileServiceTest {
         // given
         String email = "test@test.com";
         Long profileId = 1L;
+
+        when(profileRepository.findWithUserByIdAndUserEmail(profileId, email)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> profileService.selectProfile(email, profileId))
+            .isInstanceOf(CustomException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.PROFILE_NOT_FOUND);
+    }
+
+    @Test
+    void selectProfile_WithUnknownUser_ShouldThrowUserNotFound() {
+        // given
+        String email = "unknown@test.com";
+        when(profileRepository.findWithUserByIdAndUserEmail(1L, email)).thenReturn(Optional.empty());
+        when(userService.getUserByEmail(email)).thenThrow(new CustomException(ErrorCode.USER_NOT_FOUND));
+
+        // when & then
+        assertThatThrownBy(() -> profileService.selectProfile(email, 1L))
+            .isInstanceOf(CustomException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.USER_NOT_FOUND);
+    }
+
+    @Test
+    void getProfiles_WithUnknownUser_ShouldThrowUserNotFound() {
+        // given
+        String email = "unknown@test.com";
+        when(userService.getUserByEmail(email)).thenThrow(new CustomException(ErrorCode.USER_NOT_FOUND));
+
+        // when & then
+        assertThatThrownBy(() -> profileService.getProfiles(email, null, null))
+            .isInstanceOf(CustomException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.USER_NOT_FOUND);
+        verifyNoInteractions(profileRepository);
+    }
+
+    @Test
+    void getProfiles_AfterFirstRead_ShouldServeFromCache() {
+        // given
+        String email = "test@test.com";
         User user = User.builder()
             .email(email)
             .build();
+        ProfileResponse defaultProfile = ProfileResponse.builder()
+            .id(1L)
+            .name("Default Profile")
+            .isDefault(true)
+            .build();
+
+        when(profileRepository.findResponsesByUserEmail(email)).thenReturn(List.of(defaultProfile));
+        profileService.getProfile(email, 1L);
+
+        // when
+        ProfilePageResponse page = profileService.getProfiles(email, null, null);
+        ProfileResponse profile = profileService.getDefaultProfile(user);
 
+        // then
+        assertThat(page.getProfiles()).extracting(ProfileResponse::getId).containsExactly(1L);
+        assertThat(page.getNextCursor()).isNull();
+        assertThat(profile).isSameAs(defaultProfile);
+        verify(profileRepository, times(1)).findResponsesByUserEmail(email);
+        verify(profileRepository, never()).findIdsByUserIdAfter(any(), any(), any());
+        verify(profileRepository, never()).findDefaultResponseByUser(any());
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    void getProfiles_WithMoreRowsThanSize_ShouldReturnCursorOfLastRow() {
+        // given
+        String email = "test@test.com";
+        User user = User.builder()
+            .email(email)
+            .build();
+        ReflectionTestUtils.setField(user, "id", 7L);
         when(userService.getUserByEmail(email)).thenReturn(user);
-        when(profileRepository.findByIdAndUser(profileId, user)).thenReturn(Optional.empty());
+        // 인덱스에서 id 만 고른 뒤 그 행만 읽는다
+        when(profileRepository.findIdsByUserIdAfter(eq(7L), eq(0L), any())).thenReturn(List.of(1L, 2L, 3L));
+        when(profileRepository.findIdsByUserIdAfter(eq(7L), eq(2L), any())).thenReturn(List.of(3L));
+        when(profileRepository.findResponsesByIdIn(List.of(1L, 2L, 3L)))
+            .thenReturn(List.of(profile(1L), profile(2L), profile(3L)));
+        when(profileRepository.findResponsesByIdIn(List.of(3L))).thenReturn(List.of(profile(3L)));
 
+        // when
+        ProfilePageResponse first = profileService.getProfiles(email, null, 2);
+        ProfilePageResponse second = profileService.getProfiles(email, first.getNextCursor(), 2);
+
+        // then
+        assertThat(first.getProfiles()).extracting(ProfileResponse::getId).containsExactly(1L, 2L);
+        assertThat(second.getProfiles()).extracting(ProfileResponse::getId).containsExactly(3L);
+        assertThat(second.getNextCursor()).isNull();
+        verify(profileRepository).findIdsByUserIdAfter(7L, 0L, PageRequest.of(0, 3));
+        verify(profileRepository, never()).findResponsesByUserEmail(anyString());
+    }
+
+    @Test
+    void getProfiles_WithInvalidCursor_ShouldThrowException() {
         // when & then
-        assertThatThrownBy(() -> profileService.selectProfile(email, profileId))
+        assertThatThrownBy(() -> profileService.getProfiles("test@test.com", "not a cursor", null))
             .isInstanceOf(CustomException.class)
-            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.PROFILE_NOT_FOUND);
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+        verifyNoInteractions(profileRepository);
     }
 
+    @Test
+    void getDefaultProfile_WithoutCachedProfiles_ShouldQueryDefaultOnly() {
+        // given
+        User user = User.builder()
+            .email("test@test.com")
+            .build();
+        ProfileResponse defaultProfile = ProfileResponse.builder()
+            .id(1L)
+            .name("Default Profile")
+            .isDefault(true)
+            .build();
+
+        when(profileRepository.findDefaultResponseByUser(user)).thenReturn(Optional.of(defaultProfile));
+
+        // when
+        ProfileResponse profile = profileService.getDefaultProfile(user);
 
+        // then
+        assertThat(profile).isSameAs(defaultProfile);
+        verify(profileRepository, never()).findResponsesByUserEmail(anyString());
+    }
+
+    @Test
+    void deleteProfile_ShouldEvictCachedProfiles() {
+        // given
+        String email = "test@test.com";
+        User user = User.builder()
+            .email(email)
+            .build();
+        Profile profile = Profile.builder()
+            .id(2L)
+            .user(user)
+            .name("Second Profile")
+            .build();
+
+        when(profileRepository.findResponsesByUserEmail(email))
+            .thenReturn(List.of(ProfileResponse.from(profile)), List.of());
+        when(profileRepository.findByIdAndUserEmail(2L, email)).thenReturn(Optional.of(profile));
+        profileService.getProfile(email, 2L);
+
+        // when
+        profileService.deleteProfile(email, 2L);
+
+        // then
+        assertThatThrownBy(() -> profileService.getProfile(email, 2L))
+            .isInstanceOf(CustomException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.PROFILE_NOT_FOUND);
+        verify(profileRepository, times(2)).findResponsesByUserEmail(email);
+    }
+
+    private static ProfileResponse profile(Long id) {
+        return ProfileResponse.builder()
+            .id(id)
+            .name("Profile " + id)
+            .build();
+    }
 }
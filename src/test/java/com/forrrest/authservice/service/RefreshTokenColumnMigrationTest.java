@@ -0,0 +1,46 @@
+package com.forrrest.authservice.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.forrrest.authservice.entity.RefreshToken;
+
+class RefreshTokenColumnMigrationTest {
+
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+        "jdbc:h2:mem:refresh-token-column;DB_CLOSE_DELAY=-1;MODE=MySQL;DATABASE_TO_LOWER=TRUE"));
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS refresh_tokens");
+    }
+
+    @Test
+    void migrate_WithLegacyColumn_ShouldWidenAndKeepRows() {
+        // given: 이전 버전 ddl-auto 가 만든 varchar(255)
+        jdbcTemplate.execute("CREATE TABLE refresh_tokens (email VARCHAR(255) PRIMARY KEY, "
+            + "refresh_token VARCHAR(255) NOT NULL)");
+        jdbcTemplate.update("INSERT INTO refresh_tokens VALUES ('test@test.com', 'token')");
+
+        // when
+        new RefreshTokenColumnMigration(jdbcTemplate).migrate();
+        new RefreshTokenColumnMigration(jdbcTemplate).migrate();
+
+        // then
+        assertThat(jdbcTemplate.queryForObject("SELECT character_maximum_length FROM information_schema.columns "
+            + "WHERE table_name = 'refresh_tokens' AND column_name = 'refresh_token'", Long.class))
+            .isEqualTo(RefreshToken.TOKEN_MAX_LENGTH);
+        jdbcTemplate.update("UPDATE refresh_tokens SET refresh_token = ?", "x".repeat(RefreshToken.TOKEN_MAX_LENGTH));
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM refresh_tokens", Long.class)).isEqualTo(1);
+    }
+
+    @Test
+    void migrate_WithoutTable_ShouldDoNothing() {
+        // when & then
+        assertThatNoException().isThrownBy(() -> new RefreshTokenColumnMigration(jdbcTemplate).migrate());
+    }
+}
@@ -0,0 +1,62 @@
+package com.forrrest.authservice.service;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.forrrest.authservice.repository.RefreshTokenRepository;
+import com.forrrest.authservice.repository.projection.RefreshTokenIssuedView;
+import com.forrrest.common.security.config.TokenProperties;
+import com.forrrest.common.security.token.TokenType;
+
+class RefreshTokenExpiryBackfillTest {
+
+    private final RefreshTokenRepository refreshTokenRepository = mock(RefreshTokenRepository.class);
+    private RefreshTokenExpiryBackfill refreshTokenExpiryBackfill;
+
+    @BeforeEach
+    void setUp() {
+        TokenProperties tokenProperties = new TokenProperties();
+        tokenProperties.setValidity(Map.of(TokenType.USER_REFRESH, 604800000L));
+        refreshTokenExpiryBackfill = new RefreshTokenExpiryBackfill(refreshTokenRepository,
+            mock(PlatformTransactionManager.class), tokenProperties);
+    }
+
+    @Test
+    void backfill_ShouldSetExpiryFromIssueTimeOnlyOnce() {
+        // given
+        LocalDateTime issuedAt = LocalDateTime.of(2025, 1, 1, 0, 0);
+        when(refreshTokenRepository.findWithLegacyExpiryDate(any(Pageable.class)))
+            .thenReturn(List.of(row("test@test.com", issuedAt)));
+
+        // when
+        refreshTokenExpiryBackfill.backfill();
+        refreshTokenExpiryBackfill.backfill();
+
+        // then
+        verify(refreshTokenRepository).updateExpiryDate("test@test.com", issuedAt.plusDays(7));
+        verify(refreshTokenRepository, times(1)).findWithLegacyExpiryDate(any(Pageable.class));
+    }
+
+    private static RefreshTokenIssuedView row(String email, LocalDateTime updatedAt) {
+        return new RefreshTokenIssuedView() {
+            @Override
+            public String getEmail() {
+                return email;
+            }
+
+            @Override
+            public LocalDateTime getUpdatedAt() {
+                return updatedAt;
+            }
+        };
+    }
+}
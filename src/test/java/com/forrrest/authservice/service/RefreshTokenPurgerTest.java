@@ -0,0 +1,100 @@
+package com.forrrest.authservice.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.forrrest.authservice.config.RefreshTokenPurgeProperties;
+import com.forrrest.authservice.repository.RefreshTokenRepository;
+import com.forrrest.authservice.repository.projection.RefreshTokenExpiryView;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RefreshTokenPurgerTest {
+
+    private final RefreshTokenRepository refreshTokenRepository = mock(RefreshTokenRepository.class);
+    private final RefreshTokenExpiryBackfill refreshTokenExpiryBackfill = mock(RefreshTokenExpiryBackfill.class);
+    private final RefreshTokenPurgeProperties properties = new RefreshTokenPurgeProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RefreshTokenPurger refreshTokenPurger;
+
+    @BeforeEach
+    void setUp() {
+        properties.setChunkSize(2);
+        properties.setPause(Duration.ZERO);
+        refreshTokenPurger = new RefreshTokenPurger(refreshTokenRepository, refreshTokenExpiryBackfill,
+            mock(PlatformTransactionManager.class), properties, meterRegistry);
+    }
+
+    @Test
+    void purge_ShouldDeleteInChunksContinuingAfterLastKey() {
+        // given
+        LocalDateTime expired = LocalDateTime.now().minusDays(1);
+        when(refreshTokenRepository.findExpiredAfter(any(), any(), anyString(), any(Pageable.class)))
+            .thenReturn(List.of(row("a@test.com", expired), row("b@test.com", expired)))
+            .thenReturn(List.of(row("c@test.com", expired)));
+        when(refreshTokenRepository.deleteExpiredByEmailIn(anyList(), any())).thenReturn(2, 1);
+        when(refreshTokenRepository.countByExpiryDateBefore(any())).thenReturn(0L);
+
+        // when
+        long purged = refreshTokenPurger.purge();
+
+        // then
+        assertThat(purged).isEqualTo(3);
+        verify(refreshTokenRepository).findExpiredAfter(any(), eq(expired), eq("b@test.com"), any(Pageable.class));
+        verify(refreshTokenRepository).deleteExpiredByEmailIn(eq(List.of("c@test.com")), any());
+        assertThat(meterRegistry.get("auth.refresh.token.purged").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("auth.refresh.token.purge.chunk").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void purge_ShouldStopAtMaxChunksAndReportBacklog() {
+        // given
+        properties.setMaxChunksPerRun(1);
+        LocalDateTime expired = LocalDateTime.now().minusDays(1);
+        when(refreshTokenRepository.findExpiredAfter(any(), any(), anyString(), any(Pageable.class)))
+            .thenReturn(List.of(row("a@test.com", expired), row("b@test.com", expired)));
+        when(refreshTokenRepository.deleteExpiredByEmailIn(anyList(), any())).thenReturn(2);
+        when(refreshTokenRepository.countByExpiryDateBefore(any())).thenReturn(5L);
+
+        // when
+        refreshTokenPurger.purge();
+
+        // then
+        verify(refreshTokenRepository, times(1)).deleteExpiredByEmailIn(anyList(), any());
+        assertThat(meterRegistry.get("auth.refresh.token.purge.backlog").gauge().value()).isEqualTo(5);
+    }
+
+    @Test
+    void purge_WithExpiryBackfillFailing_ShouldNotDelete() {
+        // given
+        doThrow(new IllegalStateException("backfill failed")).when(refreshTokenExpiryBackfill).backfill();
+
+        // when & then
+        assertThatThrownBy(() -> refreshTokenPurger.purge()).isInstanceOf(IllegalStateException.class);
+        verifyNoInteractions(refreshTokenRepository);
+    }
+
+    private static RefreshTokenExpiryView row(String email, LocalDateTime expiryDate) {
+        return new RefreshTokenExpiryView() {
+            @Override
+            public String getEmail() {
+                return email;
+            }
+
+            @Override
+            public LocalDateTime getExpiryDate() {
+                return expiryDate;
+            }
+        };
+    }
+}
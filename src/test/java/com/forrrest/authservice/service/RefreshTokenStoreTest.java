@@ -0,0 +1,143 @@
+package com.forrrest.authservice.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.scheduling.TaskScheduler;
+
+import com.forrrest.authservice.config.RefreshTokenStoreProperties;
+import com.forrrest.authservice.entity.RefreshToken;
+import com.forrrest.authservice.repository.RefreshTokenRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RefreshTokenStoreTest {
+
+    private final RefreshTokenRepository refreshTokenRepository = mock(RefreshTokenRepository.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final RefreshTokenStoreProperties properties = new RefreshTokenStoreProperties();
+    private RefreshTokenStore refreshTokenStore;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenStore = new RefreshTokenStore(refreshTokenRepository, jdbcTemplate, mock(TaskScheduler.class),
+            properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void isCurrent_WithPendingToken_ShouldNotQueryDatabase() {
+        // given
+        refreshTokenStore.save("test@test.com", "oldToken", LocalDateTime.now().plusDays(7));
+        refreshTokenStore.save("test@test.com", "newToken", LocalDateTime.now().plusDays(7));
+
+        // when & then
+        assertThat(refreshTokenStore.isCurrent("test@test.com", "newToken")).isTrue();
+        assertThat(refreshTokenStore.isCurrent("test@test.com", "oldToken")).isFalse();
+        verifyNoInteractions(refreshTokenRepository);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_ShouldUpsertLatestTokenPerEmailInOneBatch() {
+        // given
+        refreshTokenStore.save("a@test.com", "oldToken", LocalDateTime.now().plusDays(7));
+        refreshTokenStore.save("a@test.com", "newToken", LocalDateTime.now().plusDays(7));
+        refreshTokenStore.save("b@test.com", "token", LocalDateTime.now().plusDays(7));
+
+        // when
+        refreshTokenStore.flush();
+
+        // then
+        verify(jdbcTemplate).batchUpdate(anyString(), argThat((List<?> batch) -> batch.size() == 2), eq(2),
+            any(ParameterizedPreparedStatementSetter.class));
+        when(refreshTokenRepository.existsByTokenDigest(any())).thenReturn(true);
+        assertThat(refreshTokenStore.isCurrent("a@test.com", "newToken")).isTrue();
+        verify(refreshTokenRepository).existsByTokenDigest(any());
+    }
+
+    @Test
+    void save_WithWriteBehindDisabled_ShouldWriteThrough() {
+        // given
+        properties.setWriteBehind(false);
+
+        // when
+        refreshTokenStore.save("test@test.com", "refreshToken", LocalDateTime.now().plusDays(7));
+
+        // then
+        verify(refreshTokenRepository).save(any(RefreshToken.class));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_WithRejectedRow_ShouldDropOnlyThatRow() {
+        // given
+        when(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+            .thenAnswer(invocation -> {
+                List<Map.Entry<String, ?>> batch = invocation.getArgument(1);
+                if (batch.stream().anyMatch(entry -> entry.getKey().equals("bad@test.com"))) {
+                    throw new DataIntegrityViolationException("Data too long for column 'refresh_token'");
+                }
+                return new int[batch.size()][];
+            });
+        refreshTokenStore.save("a@test.com", "token", LocalDateTime.now().plusDays(7));
+        refreshTokenStore.save("bad@test.com", "token", LocalDateTime.now().plusDays(7));
+        refreshTokenStore.save("b@test.com", "token", LocalDateTime.now().plusDays(7));
+        refreshTokenStore.save("c@test.com", "token", LocalDateTime.now().plusDays(7));
+
+        // when
+        refreshTokenStore.flush();
+
+        // then
+        when(refreshTokenRepository.existsByTokenDigest(any())).thenReturn(false);
+        assertThat(refreshTokenStore.isCurrent("bad@test.com", "token")).isFalse();
+        verify(refreshTokenRepository).existsByTokenDigest(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_WithDatabaseDown_ShouldKeepPendingAndBackOff() {
+        // given
+        properties.setRetryBackoff(Duration.ofMinutes(1));
+        when(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+            .thenThrow(new CannotGetJdbcConnectionException("Connection is not available"));
+        refreshTokenStore.save("test@test.com", "token", LocalDateTime.now().plusDays(7));
+
+        // when
+        refreshTokenStore.flush();
+        refreshTokenStore.flush();
+
+        // then
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), anyList(), anyInt(),
+            any(ParameterizedPreparedStatementSetter.class));
+        assertThat(refreshTokenStore.isCurrent("test@test.com", "token")).isTrue();
+        verifyNoInteractions(refreshTokenRepository);
+    }
+
+    @Test
+    void save_WithPendingFull_ShouldWriteThroughNewEmail() {
+        // given
+        properties.setMaxPending(1);
+        refreshTokenStore.save("a@test.com", "token", LocalDateTime.now().plusDays(7));
+
+        // when
+        refreshTokenStore.save("a@test.com", "newToken", LocalDateTime.now().plusDays(7));
+        refreshTokenStore.save("b@test.com", "token", LocalDateTime.now().plusDays(7));
+
+        // then
+        verify(refreshTokenRepository, times(1)).save(any(RefreshToken.class));
+        assertThat(refreshTokenStore.isCurrent("a@test.com", "newToken")).isTrue();
+    }
+}
@@ -0,0 +1,109 @@
+package com.forrrest.authservice.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.forrrest.authservice.config.UserExportProperties;
+import com.forrrest.authservice.dto.response.ProfileResponse;
+import com.forrrest.authservice.dto.response.UserExportResponse;
+import com.forrrest.authservice.dto.response.UserResponse;
+import com.forrrest.authservice.exception.CustomException;
+import com.forrrest.authservice.exception.ErrorCode;
+import com.forrrest.authservice.repository.ProfileRepository;
+import com.forrrest.authservice.repository.UserRepository;
+import com.forrrest.authservice.repository.projection.ProfileExportView;
+
+class UserExportServiceTest {
+
+    private static final LocalDateTime EXPORT_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 18, 12, 0);
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final ProfileRepository profileRepository = mock(ProfileRepository.class);
+    private UserExportService userExportService;
+
+    @BeforeEach
+    void setUp() {
+        userExportService = new UserExportService(userRepository, profileRepository,
+            mock(PlatformTransactionManager.class), new UserExportProperties());
+    }
+
+    @Test
+    void exportUsers_ShouldGroupProfilesPerUserAndResumeBeforeCursor() {
+        // given
+        // id 는 블록 단위라 가입 시각 순서와 다를 수 있다
+        when(userRepository.findResponsesCreatedAfter(EXPORT_START, 0L, PageRequest.of(0, 500)))
+            .thenReturn(List.of(user(11L, NOW), user(3L, NOW.plusSeconds(1)), user(13L, NOW.plusSeconds(2))));
+        List<ProfileExportView> profiles =
+            List.of(profile(3L, 102L, true), profile(11L, 100L, true), profile(11L, 101L, false));
+        when(profileRepository.findExportRowsByUserIdIn(List.of(11L, 3L, 13L))).thenReturn(profiles);
+        List<UserExportResponse> exported = new ArrayList<>();
+
+        // when
+        long count = userExportService.exportUsers(null, exported::add);
+        userExportService.exportUsers(exported.get(1).getCursor(), export -> { });
+
+        // then
+        assertThat(count).isEqualTo(3);
+        assertThat(exported).extracting(export -> export.getUser().getId()).containsExactly(11L, 3L, 13L);
+        assertThat(exported.get(0).getProfiles()).extracting(ProfileResponse::getId).containsExactly(100L, 101L);
+        assertThat(exported.get(0).getDefaultProfileId()).isEqualTo(100L);
+        assertThat(exported.get(1).getDefaultProfileId()).isEqualTo(102L);
+        assertThat(exported.get(2).getProfiles()).isEmpty();
+        assertThat(exported.get(2).getDefaultProfileId()).isNull();
+        // 이어 받기는 커서보다 overlap(5분) 앞에서 시작한다
+        verify(userRepository)
+            .findResponsesCreatedAfter(NOW.plusSeconds(1).minusMinutes(5), 0L, PageRequest.of(0, 500));
+    }
+
+    @Test
+    void exportUsers_WithUserCommittedLate_ShouldSendItOnceFromOverlapWindow() {
+        // given: 12 는 13 보다 먼저 가입했지만 첫 조회 뒤에 커밋되었다
+        when(userRepository.findResponsesCreatedAfter(EXPORT_START, 0L, PageRequest.of(0, 500)))
+            .thenReturn(List.of(user(11L, NOW), user(13L, NOW.plusSeconds(2))));
+        when(userRepository.findResponsesCreatedAfter(NOW.plusSeconds(2).minusMinutes(5), 0L, PageRequest.of(0, 500)))
+            .thenReturn(List.of(user(11L, NOW), user(12L, NOW.plusSeconds(1)), user(13L, NOW.plusSeconds(2))));
+        List<UserExportResponse> exported = new ArrayList<>();
+
+        // when
+        long count = userExportService.exportUsers(null, exported::add);
+
+        // then
+        assertThat(count).isEqualTo(3);
+        assertThat(exported).extracting(export -> export.getUser().getId()).containsExactly(11L, 13L, 12L);
+    }
+
+    @Test
+    void exportUsers_WithMalformedCursor_ShouldThrowInvalidInput() {
+        // when & then
+        assertThatThrownBy(() -> userExportService.exportUsers("bm90LWEtY3Vyc29y", export -> { }))
+            .isInstanceOf(CustomException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+        verify(userRepository, never()).findResponsesCreatedAfter(any(), any(), any());
+    }
+
+    private static UserResponse user(Long id, LocalDateTime createdAt) {
+        return new UserResponse(id, "user" + id + "@test.com", "user" + id, createdAt, createdAt);
+    }
+
+    private static ProfileExportView profile(Long userId, Long id, boolean isDefault) {
+        ProfileExportView row = mock(ProfileExportView.class);
+        when(row.getUserId()).thenReturn(userId);
+        when(row.getId()).thenReturn(id);
+        when(row.getName()).thenReturn("profile" + id);
+        when(row.getIsDefault()).thenReturn(isDefault);
+        when(row.getCreatedAt()).thenReturn(NOW);
+        when(row.getUpdatedAt()).thenReturn(NOW);
+        return row;
+    }
+}
@@ -0,0 +1,89 @@
+package com.forrrest.authservice.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.SQLException;
+import java.util.Optional;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.forrrest.authservice.dto.request.SignupRequest;
+import com.forrrest.authservice.entity.User;
+import com.forrrest.authservice.exception.CustomException;
+import com.forrrest.authservice.exception.ErrorCode;
+import com.forrrest.authservice.repository.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+class UserServiceTest {
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private PasswordHashService passwordHashService;
+    @Mock
+    private EmailExistenceFilter emailExistenceFilter;
+    @InjectMocks
+    private UserService userService;
+
+    @Test
+    void createUser_WithEmailTakenConcurrently_ShouldThrowDuplication() {
+        // given
+        SignupRequest request = new SignupRequest();
+        ReflectionTestUtils.setField(request, "email", "test@test.com");
+        ReflectionTestUtils.setField(request, "password", "password1!");
+        ReflectionTestUtils.setField(request, "username", "test");
+        when(passwordHashService.encode("password1!")).thenReturn("encodedPassword");
+        when(userRepository.saveAndFlush(any(User.class)))
+            .thenThrow(new DataIntegrityViolationException("Duplicate entry 'test@test.com'",
+                new ConstraintViolationException("Duplicate entry 'test@test.com' for key 'users.UK_email'",
+                    new SQLException("Duplicate entry", "23000", 1062), null,
+                    ConstraintViolationException.ConstraintKind.UNIQUE, "users.UK_email")));
+
+        // when & then
+        assertThatThrownBy(() -> userService.createUser(request))
+            .isInstanceOf(CustomException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.EMAIL_DUPLICATION);
+        verify(emailExistenceFilter).put("test@test.com");
+    }
+
+    @Test
+    void createUser_WithOtherIntegrityViolation_ShouldRethrow() {
+        // given
+        SignupRequest request = new SignupRequest();
+        ReflectionTestUtils.setField(request, "email", "test@test.com");
+        ReflectionTestUtils.setField(request, "password", "password1!");
+        ReflectionTestUtils.setField(request, "username", "test");
+        DataIntegrityViolationException failure = new DataIntegrityViolationException("Column 'username' cannot be null",
+            new ConstraintViolationException("Column 'username' cannot be null",
+                new SQLException("Column 'username' cannot be null", "23000", 1048), null,
+                ConstraintViolationException.ConstraintKind.OTHER, null));
+        when(passwordHashService.encode("password1!")).thenReturn("encodedPassword");
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(failure);
+
+        // when & then
+        assertThatThrownBy(() -> userService.createUser(request)).isSameAs(failure);
+        verify(emailExistenceFilter, never()).put(any());
+    }
+
+    @Test
+    void getUserByEmail_ShouldLookUpDatabaseWithoutConsultingFilter() {
+        // given
+        User user = User.builder().email("other@test.com").password("encodedPassword").username("other").build();
+        when(userRepository.loadByEmail("other@test.com")).thenReturn(Optional.of(user));
+
+        // when
+        User result = userService.getUserByEmail("other@test.com");
+
+        // then
+        assertThat(result).isSameAs(user);
+        verifyNoInteractions(emailExistenceFilter);
+    }
+}
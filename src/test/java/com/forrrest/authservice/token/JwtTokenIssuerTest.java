@@ -0,0 +1,112 @@
+package com.forrrest.authservice.token;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.forrrest.authservice.config.TokenKeyProperties;
+import com.forrrest.common.security.config.TokenProperties;
+import com.forrrest.common.security.token.JwtTokenProvider;
+import com.forrrest.common.security.token.TokenType;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+
+class JwtTokenIssuerTest {
+
+    private static final String KEY_ID = "key_v1";
+    private static final String SECRET = "c2VjcmV0a2V5Zm9yZGV2ZW52aXJvbm1lbnRzZWNyZXRrZXlmb3JkZXZlbnZpcm9ubWVudA==";
+
+    private final TokenProperties tokenProperties = mock(TokenProperties.class);
+    private JwtTokenIssuer jwtTokenIssuer;
+    private JwtTokenVerifier jwtTokenVerifier;
+
+    @BeforeEach
+    void setUp() {
+        TokenKeyProperties.Key key = new TokenKeyProperties.Key();
+        key.setId(KEY_ID);
+        key.setSecret(SECRET);
+        TokenKeyProperties tokenKeyProperties = new TokenKeyProperties();
+        tokenKeyProperties.setKeys(Map.of(KEY_ID, key));
+        tokenKeyProperties.setCurrentKeyId(KEY_ID);
+
+        when(tokenProperties.getValidity()).thenReturn(Map.of(TokenType.USER_ACCESS, 3600000L));
+        SigningKeyRing signingKeyRing = SigningKeyRing.of(tokenKeyProperties);
+        jwtTokenIssuer = new JwtTokenIssuer(tokenProperties, signingKeyRing);
+        jwtTokenVerifier = new JwtTokenVerifier(signingKeyRing);
+    }
+
+    @Test
+    void issue_ShouldBeVerifiableByJjwt() {
+        // given
+        String username = "테스트 \"user\"\\\n😀";
+
+        // when
+        String token = jwtTokenIssuer.issue("test@test.com", TokenType.USER_ACCESS,
+            Map.of("username", username, "roles", List.of("USER")));
+
+        // then
+        Jws<Claims> jws = Jwts.parser()
+            .verifyWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)))
+            .build()
+            .parseSignedClaims(token);
+        assertThat(jws.getHeader().getKeyId()).isEqualTo(KEY_ID);
+        assertThat(jws.getPayload().getSubject()).isEqualTo("test@test.com");
+        assertThat(jws.getPayload().get("username")).isEqualTo(username);
+        assertThat(jws.getPayload().get("roles")).isEqualTo(List.of("USER"));
+        assertThat(jws.getPayload().getExpiration().getTime() - jws.getPayload().getIssuedAt().getTime())
+            .isEqualTo(3600000L);
+    }
+
+    @Test
+    void issue_ShouldRoundTripThroughVerifier() {
+        // when
+        String token = jwtTokenIssuer.issue("test@test.com", TokenType.USER_ACCESS, Map.of("roles", List.of("USER")));
+        VerifiedToken verifiedToken = jwtTokenVerifier.verify(token, TokenType.USER_ACCESS);
+
+        // then
+        assertThat(verifiedToken.getSubject()).isEqualTo("test@test.com");
+        assertThat(verifiedToken.getType()).isEqualTo(TokenType.USER_ACCESS);
+        assertThat(verifiedToken.getKeyId()).isEqualTo(KEY_ID);
+        assertThat(verifiedToken.getClaim("roles")).isEqualTo(List.of("USER"));
+    }
+
+    @Test
+    void issue_ShouldBeAcceptedByJwtTokenProvider() {
+        // given
+        TokenProperties.Key key = new TokenProperties.Key();
+        key.setId(KEY_ID);
+        key.setSecret(SECRET);
+        TokenProperties providerProperties = new TokenProperties();
+        providerProperties.setKeys(Map.of(KEY_ID, key));
+        providerProperties.setCurrentKeyId(KEY_ID);
+        providerProperties.setValidity(Map.of(TokenType.USER_ACCESS, 3600000L));
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(providerProperties);
+
+        // when
+        String token = jwtTokenIssuer.issue("тест+ü@test.com", TokenType.USER_ACCESS,
+            Map.of("username", "a\"b\\c\u0001\t😀", "roles", List.of("USER")));
+        String providerToken = jwtTokenProvider.createToken("test@test.com", TokenType.USER_ACCESS,
+            Map.of("roles", List.of("USER")));
+
+        // then
+        assertThat(token.substring(0, token.indexOf('.')))
+            .isEqualTo(providerToken.substring(0, providerToken.indexOf('.')));
+        assertThat(jwtTokenProvider.validateToken(token)).isTrue();
+        Authentication authentication = jwtTokenProvider.getAuthentication(token);
+        assertThat(((UserDetails)authentication.getPrincipal()).getUsername()).isEqualTo("тест+ü@test.com");
+        assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+            .containsExactly("ROLE_USER");
+    }
+}
@@ -0,0 +1,84 @@
+package com.forrrest.authservice.token;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.forrrest.authservice.config.TokenKeyProperties;
+import com.forrrest.authservice.exception.CustomException;
+import com.forrrest.authservice.exception.ErrorCode;
+import com.forrrest.common.security.config.TokenProperties;
+import com.forrrest.common.security.token.JwtTokenProvider;
+import com.forrrest.common.security.token.TokenType;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+
+class JwtTokenVerifierTest {
+
+    private static final String KEY_ID = "key_v1";
+    private static final String SECRET = "c2VjcmV0a2V5Zm9yZGV2ZW52aXJvbm1lbnRzZWNyZXRrZXlmb3JkZXZlbnZpcm9ubWVudA==";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private JwtTokenVerifier jwtTokenVerifier;
+
+    @BeforeEach
+    void setUp() {
+        TokenProperties.Key key = new TokenProperties.Key();
+        key.setId(KEY_ID);
+        key.setSecret(SECRET);
+        TokenProperties tokenProperties = new TokenProperties();
+        tokenProperties.setKeys(Map.of(KEY_ID, key));
+        tokenProperties.setCurrentKeyId(KEY_ID);
+        tokenProperties.setValidity(Map.of(TokenType.USER_REFRESH, 604800000L));
+        jwtTokenProvider = new JwtTokenProvider(tokenProperties);
+
+        TokenKeyProperties.Key verifierKey = new TokenKeyProperties.Key();
+        verifierKey.setId(KEY_ID);
+        verifierKey.setSecret(SECRET);
+        TokenKeyProperties tokenKeyProperties = new TokenKeyProperties();
+        tokenKeyProperties.setKeys(Map.of(KEY_ID, verifierKey));
+        tokenKeyProperties.setCurrentKeyId(KEY_ID);
+        jwtTokenVerifier = new JwtTokenVerifier(SigningKeyRing.of(tokenKeyProperties));
+    }
+
+    @Test
+    void verify_WithJwtTokenProviderToken_ShouldReadTypeClaim() {
+        // given
+        String token = jwtTokenProvider.createToken("test@test.com", TokenType.USER_REFRESH,
+            Map.of("roles", List.of("USER")));
+
+        // when
+        VerifiedToken verifiedToken = jwtTokenVerifier.verify(token, TokenType.USER_REFRESH);
+
+        // then
+        assertThat(verifiedToken.getType()).isEqualTo(TokenType.USER_REFRESH);
+        assertThat(verifiedToken.getSubject()).isEqualTo("test@test.com");
+        assertThat(verifiedToken.getClaim("roles")).isEqualTo(List.of("USER"));
+        assertThatThrownBy(() -> jwtTokenVerifier.verify(token, TokenType.USER_ACCESS))
+            .isInstanceOf(CustomException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_TOKEN);
+    }
+
+    @Test
+    void verify_WithoutTypeClaim_ShouldThrowException() {
+        // given
+        String token = Jwts.builder()
+            .header().keyId(KEY_ID).and()
+            .subject("test@test.com")
+            .expiration(new Date(System.currentTimeMillis() + 60_000))
+            .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)))
+            .compact();
+
+        // when & then
+        assertThatThrownBy(() -> jwtTokenVerifier.verify(token, TokenType.USER_REFRESH))
+            .isInstanceOf(CustomException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_TOKEN);
+    }
+}
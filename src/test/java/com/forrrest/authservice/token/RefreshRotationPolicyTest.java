@@ -0,0 +1,70 @@
+package com.forrrest.authservice.token;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+
+import com.forrrest.authservice.config.RefreshRotationProperties;
+import com.forrrest.common.security.token.TokenType;
+
+class RefreshRotationPolicyTest {
+
+    private final Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Test
+    void defaultMode_ShouldMatchApplicationYml() {
+        // when & then
+        assertThat(new RefreshRotationProperties().getMode()).isEqualTo(RefreshRotationProperties.Mode.BEFORE_EXPIRY);
+    }
+
+    @Test
+    void shouldRotate_WithAlwaysMode_ShouldAlwaysRotate() {
+        // given
+        RefreshRotationPolicy policy = policy(RefreshRotationProperties.Mode.ALWAYS);
+
+        // when & then
+        assertThat(policy.shouldRotate(token(now, now.plus(Duration.ofDays(7))), now)).isTrue();
+    }
+
+    @Test
+    void shouldRotate_WithBeforeExpiryMode_ShouldRotateOnlyInsideWindow() {
+        // given
+        RefreshRotationPolicy policy = policy(RefreshRotationProperties.Mode.BEFORE_EXPIRY);
+
+        // when & then
+        assertThat(policy.shouldRotate(token(now.minus(Duration.ofDays(1)), now.plus(Duration.ofDays(6))), now))
+            .isFalse();
+        assertThat(policy.shouldRotate(token(now.minus(Duration.ofDays(6)), now.plus(Duration.ofHours(12))), now))
+            .isTrue();
+    }
+
+    @Test
+    void shouldRotate_WithSlidingMode_ShouldRotateAfterInterval() {
+        // given
+        RefreshRotationPolicy policy = policy(RefreshRotationProperties.Mode.SLIDING);
+
+        // when & then
+        assertThat(policy.shouldRotate(token(now.minus(Duration.ofMinutes(10)), now.plus(Duration.ofDays(7))), now))
+            .isFalse();
+        assertThat(policy.shouldRotate(token(now.minus(Duration.ofHours(2)), now.plus(Duration.ofDays(7))), now))
+            .isTrue();
+    }
+
+    private RefreshRotationPolicy policy(RefreshRotationProperties.Mode mode) {
+        RefreshRotationProperties properties = new RefreshRotationProperties();
+        properties.setMode(mode);
+        return new RefreshRotationPolicy(properties);
+    }
+
+    private VerifiedToken token(Instant issuedAt, Instant expiresAt) {
+        return VerifiedToken.builder()
+            .subject("test@test.com")
+            .type(TokenType.USER_REFRESH)
+            .issuedAt(issuedAt)
+            .expiresAt(expiresAt)
+            .build();
+    }
+}
@@ -0,0 +1,143 @@
+package com.forrrest.authservice.token;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.TaskScheduler;
+
+import com.forrrest.authservice.config.KeyRingProperties;
+import com.forrrest.authservice.config.TokenKeyProperties;
+import com.forrrest.authservice.exception.CustomException;
+import com.forrrest.authservice.exception.ErrorCode;
+import com.forrrest.common.security.config.TokenProperties;
+import com.forrrest.common.security.token.TokenType;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SigningKeyRingTest {
+
+    private static final String SECRET_V1 = "c2VjcmV0a2V5Zm9yZGV2ZW52aXJvbm1lbnRzZWNyZXRrZXlmb3JkZXZlbnZpcm9ubWVudA==";
+    private static final String SECRET_V2 = "YW5vdGhlcnNlY3JldGtleWZvcnRoZWtleXJpbmdyZWxvYWR0ZXN0MDEyMzQ1Njc4OQ==";
+
+    @TempDir
+    private Path tempDir;
+
+    private final TokenProperties tokenProperties = mock(TokenProperties.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private Path keyFile;
+    private SigningKeyRing signingKeyRing;
+    private JwtTokenIssuer jwtTokenIssuer;
+    private JwtTokenVerifier jwtTokenVerifier;
+
+    @BeforeEach
+    void setUp() {
+        keyFile = tempDir.resolve("token-keys.yml");
+        KeyRingProperties properties = new KeyRingProperties();
+        properties.setPath(keyFile.toString());
+
+        when(tokenProperties.getValidity()).thenReturn(Map.of(TokenType.USER_ACCESS, 3600000L));
+        signingKeyRing = new SigningKeyRing(keyProperties(), properties, mock(TaskScheduler.class), eventPublisher,
+            meterRegistry);
+        jwtTokenIssuer = new JwtTokenIssuer(tokenProperties, signingKeyRing);
+        jwtTokenVerifier = new JwtTokenVerifier(signingKeyRing);
+    }
+
+    @Test
+    void reloadIfModified_ShouldSignWithNewCurrentKeyAndKeepVerifyingOldKey() throws IOException {
+        // given
+        String oldToken = issue();
+        writeKeyFile("key_v2", Map.of("key_v1", SECRET_V1, "key_v2", SECRET_V2));
+
+        // when
+        signingKeyRing.reloadIfModified();
+
+        // then
+        assertThat(jwtTokenVerifier.verify(issue()).getKeyId()).isEqualTo("key_v2");
+        assertThat(jwtTokenVerifier.verify(oldToken).getKeyId()).isEqualTo("key_v1");
+        // key_v1 은 그대로이고, kid 없는 토큰을 검증하는 현재 키만 바뀌었다
+        verify(eventPublisher).publishEvent(new SigningKeysReloadedEvent(Set.of(), true));
+    }
+
+    @Test
+    void reloadIfModified_WithRemovedKey_ShouldRejectTokensSignedByIt() throws IOException {
+        // given
+        String oldToken = issue();
+        writeKeyFile("key_v2", Map.of("key_v2", SECRET_V2));
+
+        // when
+        signingKeyRing.reloadIfModified();
+
+        // then
+        assertThatThrownBy(() -> jwtTokenVerifier.verify(oldToken))
+            .isInstanceOf(CustomException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_TOKEN);
+        verify(eventPublisher).publishEvent(new SigningKeysReloadedEvent(Set.of("key_v1"), true));
+    }
+
+    @Test
+    void reloadIfModified_WithSecretRotatedUnderSameKeyId_ShouldReportKeyAsChanged() throws IOException {
+        // given
+        String oldToken = issue();
+        writeKeyFile("key_v1", Map.of("key_v1", SECRET_V2));
+
+        // when
+        signingKeyRing.reloadIfModified();
+
+        // then
+        assertThatThrownBy(() -> jwtTokenVerifier.verify(oldToken))
+            .isInstanceOf(CustomException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_TOKEN);
+        verify(eventPublisher).publishEvent(new SigningKeysReloadedEvent(Set.of("key_v1"), true));
+    }
+
+    @Test
+    void reloadIfModified_WithInvalidFile_ShouldKeepCurrentKeys() throws IOException {
+        // given
+        writeKeyFile("key_v3", Map.of("key_v2", SECRET_V2));
+
+        // when
+        signingKeyRing.reloadIfModified();
+
+        // then
+        assertThat(jwtTokenVerifier.verify(issue()).getKeyId()).isEqualTo("key_v1");
+        assertThat(meterRegistry.counter("auth.token.key.reload", "outcome", "failure").count()).isEqualTo(1);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    private String issue() {
+        return jwtTokenIssuer.issue("test@test.com", TokenType.USER_ACCESS, Map.of("roles", List.of("USER")));
+    }
+
+    private void writeKeyFile(String currentKeyId, Map<String, String> secrets) throws IOException {
+        StringBuilder yaml = new StringBuilder("token:\n  current-key-id: ").append(currentKeyId).append("\n  keys:\n");
+        secrets.forEach((keyId, secret) -> yaml.append("    ").append(keyId).append(":\n")
+            .append("      id: ").append(keyId).append('\n')
+            .append("      secret: ").append(secret).append('\n'));
+        Files.writeString(keyFile, yaml);
+        Files.setLastModifiedTime(keyFile, FileTime.from(Instant.now()));
+    }
+
+    private static TokenKeyProperties keyProperties() {
+        TokenKeyProperties.Key key = new TokenKeyProperties.Key();
+        key.setId("key_v1");
+        key.setSecret(SECRET_V1);
+        TokenKeyProperties tokenKeyProperties = new TokenKeyProperties();
+        tokenKeyProperties.setKeys(Map.of("key_v1", key));
+        tokenKeyProperties.setCurrentKeyId("key_v1");
+        return tokenKeyProperties;
+    }
+}
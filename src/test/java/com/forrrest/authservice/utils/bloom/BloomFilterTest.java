@@ -0,0 +1,47 @@
+package com.forrrest.authservice.utils.bloom;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+
+    @Test
+    void mightContain_ShouldNeverReturnFalseForInsertedValue() {
+        // given
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.put("user" + i + "@test.com"));
+
+        // when & then
+        assertThat(IntStream.range(0, 10_000).allMatch(i -> filter.mightContain("user" + i + "@test.com")))
+            .isTrue();
+        long falsePositives = IntStream.range(0, 10_000)
+            .filter(i -> filter.mightContain("absent" + i + "@test.com"))
+            .count();
+        assertThat(falsePositives).isLessThan(300);
+        assertThat(filter.expectedFalsePositiveRate()).isLessThan(0.03);
+    }
+
+    @Test
+    void readFrom_ShouldRestoreWrittenSnapshot() throws Exception {
+        // given
+        BloomFilter filter = BloomFilter.create(1_000, 0.01);
+        filter.put("test@test.com");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        filter.writeTo(new DataOutputStream(bytes));
+
+        // when
+        BloomFilter restored = BloomFilter.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        // then
+        assertThat(restored.isCompatible(filter)).isTrue();
+        assertThat(restored.mightContain("test@test.com")).isTrue();
+        assertThat(restored.insertions()).isEqualTo(1);
+    }
+}